@@ -0,0 +1,60 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the invocation of a parameterized test method through a {@link MethodInvoker}
+ * with the reflective invocation it replaces.
+ * <p>
+ * Run with {@code mvn -P jmh test-compile exec:exec}.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MethodInvokerBenchmark {
+
+    private final TestClass testInstance = new TestClass();
+
+    private final Object testCase = new Object();
+
+    private final Object arg1 = "a";
+
+    private final Object arg2 = 2;
+
+    private Method method;
+
+    private MethodInvoker invoker;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = TestClass.class.getDeclaredMethod("test", Object.class, String.class, Integer.class);
+        invoker = MethodInvoker.of(method);
+    }
+
+    @Benchmark
+    public Object reflectionUtils() {
+        return ReflectionUtils.invokeMethod(method, testInstance, testCase, arg1, arg2);
+    }
+
+    @Benchmark
+    public Object methodInvoker() {
+        return invoker.invoke(testInstance, testCase, arg1, arg2);
+    }
+
+    static class TestClass {
+        Object test(Object testCase, String arg1, Integer arg2) {
+            return arg2;
+        }
+    }
+}
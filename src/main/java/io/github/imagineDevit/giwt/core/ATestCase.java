@@ -1,6 +1,7 @@
 package io.github.imagineDevit.giwt.core;
 
 
+import io.github.imagineDevit.giwt.core.annotations.Benchmark;
 import io.github.imagineDevit.giwt.core.report.TestCaseReport;
 import io.github.imagineDevit.giwt.core.statements.StmtMsg;
 import io.github.imagineDevit.giwt.core.utils.Utils;
@@ -32,6 +33,7 @@ public abstract class ATestCase<T, R, STATE extends ATestCaseState<T>, RESULT ex
     protected final List<StmtMsg> thenMsgs = new ArrayList<>();
     protected STATE state;
     protected RESULT result;
+    private BenchmarkRunner benchmark;
 
     /**
      * Constructor
@@ -48,6 +50,16 @@ public abstract class ATestCase<T, R, STATE extends ATestCaseState<T>, RESULT ex
 
     // endregion
 
+    /**
+     * Benchmarks the WHEN step of this test case, as {@link #timed(TestCaseReport.TestReport.Phase, Supplier) timed}
+     * by the implementation.
+     *
+     * @param settings the benchmark settings
+     */
+    void benchmark(Benchmark settings) {
+        this.benchmark = new BenchmarkRunner(settings);
+    }
+
     /**
      * Returns the name of the test case with its relevant parameters formatted.
      * If the test case has parameters, it will format the name using the parameters.
@@ -86,6 +98,35 @@ public abstract class ATestCase<T, R, STATE extends ATestCaseState<T>, RESULT ex
         this.report.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.and(message));
     }
 
+    /**
+     * Runs a step of the test case and adds its duration, measured with a monotonic clock, to the test report.
+     * Implementations wrap each GIVEN step, the WHEN action and each THEN verification with this method,
+     * in the order their messages were added.
+     * The WHEN action of a {@link Benchmark benchmarked} test case is run through the benchmark iterations,
+     * the result of its last invocation being returned.
+     *
+     * @param phase the phase of the step
+     * @param step  the step
+     * @param <X>   the step result type
+     * @return the step result
+     */
+    protected <X> X timed(TestCaseReport.TestReport.Phase phase, Supplier<X> step) {
+        if (phase == TestCaseReport.TestReport.Phase.WHEN && this.benchmark != null) {
+            return this.report.timed(phase, () -> this.benchmark.run(step, this.report::setBenchmarkResult));
+        }
+        return this.report.timed(phase, step);
+    }
+
+    /**
+     * @see #timed(TestCaseReport.TestReport.Phase, Supplier)
+     */
+    protected void timed(TestCaseReport.TestReport.Phase phase, Runnable step) {
+        timed(phase, () -> {
+            step.run();
+            return null;
+        });
+    }
+
     protected abstract void run();
 
     /**
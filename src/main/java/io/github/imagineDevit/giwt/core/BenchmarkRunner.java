@@ -0,0 +1,67 @@
+package io.github.imagineDevit.giwt.core;
+
+import io.github.imagineDevit.giwt.core.annotations.Benchmark;
+import io.github.imagineDevit.giwt.core.report.BenchmarkResult;
+import io.github.imagineDevit.giwt.core.utils.Blackhole;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs the WHEN step of a {@link Benchmark benchmarked} test case through its warmup and measured iterations.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+final class BenchmarkRunner {
+
+    private final Benchmark settings;
+
+    private final Blackhole blackhole = new Blackhole();
+
+    BenchmarkRunner(Benchmark settings) {
+        if (settings.iterations() < 1 || settings.batchSize() < 1 || settings.warmupIterations() < 0) {
+            throw new IllegalArgumentException("A benchmark needs at least one iteration of at least one invocation");
+        }
+        this.settings = settings;
+    }
+
+    /**
+     * Runs the step through the warmup and measured iterations.
+     *
+     * @param step   the WHEN step
+     * @param result the consumer of the benchmark result
+     * @param <X>    the step result type
+     * @return the result of the last invocation of the step
+     */
+    <X> X run(Supplier<X> step, Consumer<BenchmarkResult> result) {
+        for (int i = 0; i < settings.warmupIterations(); i++) {
+            iteration(step);
+        }
+
+        long[] iterationNanos = new long[settings.iterations()];
+        for (int i = 0; i < iterationNanos.length - 1; i++) {
+            long start = System.nanoTime();
+            iteration(step);
+            iterationNanos[i] = System.nanoTime() - start;
+        }
+
+        // the last iteration keeps the result of its last invocation, on which the THEN steps are run
+        long start = System.nanoTime();
+        for (int j = 0; j < settings.batchSize() - 1; j++) {
+            blackhole.consume(step.get());
+        }
+        X last = step.get();
+        iterationNanos[iterationNanos.length - 1] = System.nanoTime() - start;
+
+        result.accept(BenchmarkResult.of(iterationNanos, settings.batchSize()));
+
+        return last;
+    }
+
+    private void iteration(Supplier<?> step) {
+        for (int j = 0; j < settings.batchSize(); j++) {
+            blackhole.consume(step.get());
+        }
+    }
+}
@@ -2,18 +2,17 @@ package io.github.imagineDevit.giwt.core;
 
 
 import io.github.imagineDevit.giwt.core.context.GiwtContext;
+import io.github.imagineDevit.giwt.core.metrics.GiwtMetrics;
+import io.github.imagineDevit.giwt.core.utils.DiscoveryOptions;
 import io.github.imagineDevit.giwt.core.utils.SelectorUtils;
 import org.junit.platform.engine.*;
-import org.junit.platform.engine.discovery.ClassSelector;
-import org.junit.platform.engine.discovery.ClasspathRootSelector;
-import org.junit.platform.engine.discovery.MethodSelector;
-import org.junit.platform.engine.discovery.PackageNameFilter;
+import org.junit.platform.engine.discovery.*;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Giwt test engine
@@ -27,10 +26,13 @@ public abstract class GiwtTestEngine<TC extends ATestCase, E extends GiwtTestExe
 
     public static final String ENGINE_ID = "giwt-test-engine";
 
-    public static final GiwtContext CONTEXT = new GiwtContext(new HashMap<>());
+    public static final GiwtContext CONTEXT = new GiwtContext(new ConcurrentHashMap<>());
 
     private final E executor;
 
+    // the metrics of the last discovery, completed by the execution
+    private volatile GiwtMetrics metrics;
+
     protected GiwtTestEngine(E executor) {
         this.executor = executor;
     }
@@ -48,20 +50,36 @@ public abstract class GiwtTestEngine<TC extends ATestCase, E extends GiwtTestExe
     @Override
     public TestDescriptor discover(EngineDiscoveryRequest engineDiscoveryRequest, UniqueId uniqueId) {
 
+        GiwtMetrics discoveryMetrics = GiwtMetrics.open(engineDiscoveryRequest.getConfigurationParameters());
+        long start = System.nanoTime();
 
         EngineDescriptor root = new EngineDescriptor(uniqueId, "GiwtTestEngine");
 
-        List<Predicate<String>> predicates = engineDiscoveryRequest.getFiltersByType(PackageNameFilter.class)
-                .stream().map(Filter::toPredicate).toList();
+        DiscoveryOptions options = DiscoveryOptions.of(engineDiscoveryRequest);
 
         engineDiscoveryRequest.getSelectorsByType(ClasspathRootSelector.class)
-                .forEach(selector -> SelectorUtils.appendTestInRoot(selector, root, predicates));
+                .forEach(selector -> SelectorUtils.appendTestInRoot(selector, root, options));
+
+        engineDiscoveryRequest.getSelectorsByType(PackageSelector.class)
+                .forEach(selector -> SelectorUtils.appendTestInPackage(selector, root, options));
 
         engineDiscoveryRequest.getSelectorsByType(ClassSelector.class)
-                .forEach(selector -> SelectorUtils.appendTestInClass(selector.getJavaClass(), root));
+                .forEach(selector -> SelectorUtils.appendTestInClass(selector, root, options));
+
+        List<UniqueId> selectedIds = Stream.concat(
+                engineDiscoveryRequest.getSelectorsByType(MethodSelector.class).stream()
+                        .filter(methodSelector -> options.includesClass(methodSelector.getClassName()))
+                        .map(methodSelector -> SelectorUtils.uniqueIdOf(methodSelector.getJavaClass(), methodSelector.getJavaMethod(), uniqueId)),
+                engineDiscoveryRequest.getSelectorsByType(UniqueIdSelector.class).stream()
+                        .map(UniqueIdSelector::getUniqueId)
+        ).toList();
+
+        SelectorUtils.appendTestInUniqueIds(selectedIds, root, options);
+
+        options.cache().save();
 
-        engineDiscoveryRequest.getSelectorsByType(MethodSelector.class)
-                .forEach(methodSelector -> SelectorUtils.appendTestInMethod(methodSelector.getJavaMethod(), root));
+        discoveryMetrics.discoveryFinished(root, System.nanoTime() - start);
+        this.metrics = discoveryMetrics;
 
         return root;
     }
@@ -69,7 +87,10 @@ public abstract class GiwtTestEngine<TC extends ATestCase, E extends GiwtTestExe
     @Override
     public void execute(ExecutionRequest executionRequest) {
         TestDescriptor root = executionRequest.getRootTestDescriptor();
-        this.executor.execute(executionRequest, root);
+        GiwtMetrics executionMetrics = Optional.ofNullable(this.metrics)
+                .orElseGet(() -> GiwtMetrics.open(executionRequest.getConfigurationParameters()));
+        this.metrics = null;
+        this.executor.execute(executionRequest, root, executionMetrics);
     }
 
 }
@@ -1,20 +1,35 @@
 package io.github.imagineDevit.giwt.core;
 
+import io.github.imagineDevit.giwt.core.callbacks.Callback;
 import io.github.imagineDevit.giwt.core.descriptors.GiwtClassTestDescriptor;
 import io.github.imagineDevit.giwt.core.descriptors.GiwtMethodTestDescriptor;
 import io.github.imagineDevit.giwt.core.descriptors.GiwtParameterizedMethodTestDescriptor;
-import io.github.imagineDevit.giwt.core.report.ReportProcessor;
+import io.github.imagineDevit.giwt.core.jfr.CurrentTest;
+import io.github.imagineDevit.giwt.core.jfr.ReportRenderingEvent;
+import io.github.imagineDevit.giwt.core.jfr.TestExecutionEvent;
+import io.github.imagineDevit.giwt.core.metrics.GiwtMetrics;
+import io.github.imagineDevit.giwt.core.report.ReportSink;
+import io.github.imagineDevit.giwt.core.report.ResourceUsage;
 import io.github.imagineDevit.giwt.core.report.TestCaseReport;
+import io.github.imagineDevit.giwt.core.trace.TraceWriter;
 import io.github.imagineDevit.giwt.core.utils.EnvVars;
-import org.junit.platform.commons.util.ReflectionUtils;
+import io.github.imagineDevit.giwt.core.utils.ResourceMeter;
+import io.github.imagineDevit.giwt.core.utils.TimingStore;
+import io.github.imagineDevit.giwt.core.utils.WorkerPool;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 
 /**
@@ -28,109 +43,209 @@ import java.util.Optional;
 @SuppressWarnings("rawtypes")
 public abstract class GiwtTestExecutor<TC extends ATestCase> {
 
-    private static Integer NB = null;
-
-    private TestCaseReport report;
-
-    private boolean allCallbacksRan = false;
-
-    private Boolean withReport;
-
-    private Object testInstance;
-
     public abstract void run(TC testCase);
 
     public abstract TC createTestCase(String name, TestCaseReport.TestReport report, TestParameters.Parameter parameter);
 
     public void execute(ExecutionRequest request, TestDescriptor root) {
+        execute(request, root, GiwtMetrics.open(request.getConfigurationParameters()));
+    }
 
-        if (withReport == null) {
-            withReport = Boolean.valueOf(System.getenv(EnvVars.GENERATE_REPORT));
+    /**
+     * Executes the tests, recording the metrics of the run.
+     *
+     * @param request the execution request
+     * @param root    the root descriptor of the tests to execute
+     * @param metrics the metrics of the run
+     */
+    public void execute(ExecutionRequest request, TestDescriptor root, GiwtMetrics metrics) {
+        ConfigurationParameters configuration = request.getConfigurationParameters();
+        TestCaseReport report = EnvVars.isEnabled(configuration, EnvVars.GENERATE_REPORT) ? new TestCaseReport() : null;
+        TimingStore timings = TimingStore.open(configuration);
+        metrics.runStarted();
+        try (TraceWriter trace = TraceWriter.open(configuration); WorkerPool bodies = WorkerPool.forTestBodies(configuration)) {
+            execute(new Run(configuration, request.getEngineExecutionListener(), report, null, timings, metrics, trace, ResourceMeter.open(configuration), bodies, null, false), root);
         }
+        timings.save();
+        metrics.runFinished();
+    }
 
-        if (NB == null) {
-            NB = root.getChildren().size();
+    private void execute(Run run, TestDescriptor root) {
+        boolean timed = run.timings().isEnabled() && isTimed(root);
+        boolean traced = run.trace().isEnabled() && !(root instanceof EngineDescriptor);
+
+        if (!timed && !traced) {
+            executeDescriptor(run, root);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            executeDescriptor(run, root);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            if (timed) run.timings().record(root.getUniqueId(), nanos);
+            if (traced) run.trace().span(root.getDisplayName(), traceCategory(root), start, nanos);
         }
+    }
+
+    private static String traceCategory(TestDescriptor descriptor) {
+        if (descriptor instanceof GiwtClassTestDescriptor) return "class";
+        if (descriptor instanceof GiwtParameterizedMethodTestDescriptor) return "parameterized";
+        return "test";
+    }
+
+    /**
+     * @return a listener writing the callbacks and steps of a test class (or of a test) to the trace, or null if the run is not traced
+     */
+    private static TestCaseReport.TestReport.PhaseListener traceListener(Run run, String beforeCallbacks, String afterCallbacks) {
+        if (!run.trace().isEnabled()) return null;
+
+        return (phase, start, nanos) -> {
+            switch (phase) {
+                case BEFORE -> run.trace().span(beforeCallbacks, "callback", start, nanos);
+                case AFTER -> run.trace().span(afterCallbacks, "callback", start, nanos);
+                default -> run.trace().span(phase.name(), "phase", start, nanos);
+            }
+        };
+    }
+
+    /**
+     * The durations of the test classes and of their tests are recorded, those of parameterized rows are not.
+     */
+    private static boolean isTimed(TestDescriptor descriptor) {
+        return descriptor instanceof GiwtClassTestDescriptor
+                || descriptor.getParent().filter(GiwtClassTestDescriptor.class::isInstance).isPresent();
+    }
+
+    private void executeDescriptor(Run run, TestDescriptor root) {
 
         if (root instanceof EngineDescriptor) {
-            initReport();
-            executeForEngineDescriptor(request, root);
+            executeForEngineDescriptor(run, root);
         }
 
         if (root instanceof GiwtClassTestDescriptor ctd) {
-            testInstance = ctd.getTestInstance();
-            ctd.execute(
-                    () -> allCallbacksRan = true,
-                    d -> executeForClassDescriptor(request, d),
-                    () -> allCallbacksRan = false
-            );
+            Run classRun = run.inClass(ctd.getTestInstance());
+            ctd.execute(d -> executeForClassDescriptor(classRun, d), traceListener(run, Callback.Methods.BEFORE_ALL, Callback.Methods.AFTER_ALL));
         }
 
-        if (root instanceof GiwtParameterizedMethodTestDescriptor) {
-            executeContainer(request, root);
+        if (root instanceof GiwtParameterizedMethodTestDescriptor pmd) {
+            executeRows(run, pmd);
         }
 
         if (root instanceof GiwtMethodTestDescriptor mtd) {
-            if (testInstance == null) testInstance = mtd.getTestInstance();
-            mtd.execute(d -> executeForMethodDescriptor(request, d), allCallbacksRan);
+            executeWithCallbacks(run, mtd);
         }
 
     }
 
-    private void initReport() {
-        if (report == null && withReport) {
-            report = new TestCaseReport();
+    /**
+     * Executes a test between its callbacks, as the {@link CurrentTest current test} of the thread,
+     * and records its duration, its metrics and a {@link TestExecutionEvent}.
+     */
+    private void executeWithCallbacks(Run run, GiwtMethodTestDescriptor mtd) {
+        Run methodRun = run.testInstance() == null ? run.withTestInstance(mtd.getTestInstance()) : run;
+        TestCaseReport.TestReport testReport = new TestCaseReport.TestReport();
+        testReport.setPhaseListener(traceListener(run, Callback.Methods.BEFORE_EACH, Callback.Methods.AFTER_EACH));
+        CurrentTest currentTest = new CurrentTest(
+                mtd.getTestMethod().getDeclaringClass().getName(),
+                mtd.getTestMethod().getName(),
+                mtd.getParams() != null ? mtd.getDisplayName() : null
+        );
+
+        TestExecutionEvent event = new TestExecutionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            currentTest.run(() -> mtd.execute(d -> executeForMethodDescriptor(methodRun, d, testReport), run.allCallbacksRan(), testReport));
+        } finally {
+            testReport.setDurationNanos(System.nanoTime() - start);
+            run.metrics().testFinished(mtd, testReport.getStatus(), testReport.getDurationNanos());
+            if (event.shouldCommit()) {
+                event.test(currentTest.className(), currentTest.methodName(), currentTest.rowName());
+                event.status = Optional.ofNullable(testReport.getStatus()).map(Enum::name).orElse(null);
+                event.commit();
+            }
         }
     }
 
-    private void executeForMethodDescriptor(ExecutionRequest request, GiwtMethodTestDescriptor md) {
+    private void executeForMethodDescriptor(Run run, GiwtMethodTestDescriptor md, TestCaseReport.TestReport testReport) {
         String className = md.getTestMethod().getDeclaringClass().getName();
 
-        Optional<TestCaseReport.ClassReport> classReport = getReport().map(
-                tc -> tc.getClassReport(className).orElseGet(() -> {
-                    TestCaseReport.ClassReport cr = new TestCaseReport.ClassReport(className);
-                    tc.addClassReport(cr);
-                    return cr;
-                })
-        );
+        Optional<TestCaseReport.ClassReport> classReport = run.getReport().map(tc -> tc.getOrCreateClassReport(className));
+
+        ResourceUsage start = run.resources().sample();
+        try {
+            executeTest(run, md, testReport);
+        } finally {
+            testReport.setResourceUsage(run.resources().since(start));
+        }
+
+        Runnable addReport = () -> classReport.ifPresent(cr -> cr.addTestReport(testReport));
 
-        TestCaseReport.TestReport testReport = executeTest(request, md);
-        classReport.ifPresent(cr -> cr.addTestReport(testReport));
+        if (run.listener() instanceof RowRecorder recorder) recorder.defer(addReport);
+        else addReport.run();
     }
 
-    private void executeForClassDescriptor(ExecutionRequest request, GiwtClassTestDescriptor r) {
+    private void executeForClassDescriptor(Run run, GiwtClassTestDescriptor r) {
         TestCaseReport.ClassReport classReport = r.createReport();
         if (r.shouldBeReported()) {
-            getReport().ifPresent(tc -> tc.addClassReport(classReport));
+            run.getReport().ifPresent(tc -> tc.addClassReport(classReport));
         }
-        executeContainer(request, r);
+        executeContainer(run, r);
+
+        run.getReport()
+                .flatMap(tc -> tc.getClassReport(classReport.getName()))
+                .ifPresent(cr -> writeClassReport(run, cr));
     }
 
-    private void executeForEngineDescriptor(ExecutionRequest request, TestDescriptor root) {
-        executeContainer(request, root);
-        getReport()
-                .ifPresent(tc -> {
-                    if (NB != null && tc.getClassReports().size() == NB) {
-                        try {
-                            new ReportProcessor().process(tc);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        } finally {
-                            NB = null;
-                        }
-                    }
-                });
+    /**
+     * Executes the test classes, each class report being handed to the report sink, then released,
+     * as soon as its class has been executed.
+     */
+    private void executeForEngineDescriptor(Run run, TestDescriptor root) {
+        if (run.report() == null) {
+            executeContainer(run, root);
+            return;
+        }
+
+        try (ReportSink sink = ReportSink.open(run.configuration())) {
+            Run reportingRun = run.withReportSink(sink);
+
+            executeContainer(reportingRun, root);
+
+            // reports of classes that were not executed through their own descriptor (e.g. inherited test methods)
+            List.copyOf(run.report().getClassReports()).forEach(cr -> writeClassReport(reportingRun, cr));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
-    private TestCaseReport.TestReport executeTest(ExecutionRequest request, GiwtMethodTestDescriptor root) {
+    private static void writeClassReport(Run run, TestCaseReport.ClassReport classReport) {
+        if (run.reportSink() == null) return;
+
+        ReportRenderingEvent event = new ReportRenderingEvent();
+        event.begin();
+
+        run.reportSink().write(classReport);
+        run.report().removeClassReport(classReport);
+
+        if (event.shouldCommit()) {
+            event.test(classReport.getName(), null, null);
+            event.sink = run.reportSink().getClass().getSimpleName();
+            event.commit();
+        }
+    }
 
-        TestCaseReport.TestReport report = new TestCaseReport.TestReport();
+    private TestCaseReport.TestReport executeTest(Run run, GiwtMethodTestDescriptor root, TestCaseReport.TestReport report) {
 
         TC testCase = root.getTestCase(report,
                 (n) -> (r, p) -> this.createTestCase(n, r, p),
                 ATestCase::getName);
 
-        EngineExecutionListener listener = request.getEngineExecutionListener();
+        root.getBenchmark().ifPresent(testCase::benchmark);
+
+        EngineExecutionListener listener = run.listener();
 
         listener.executionStarted(root);
 
@@ -143,13 +258,15 @@ public abstract class GiwtTestExecutor<TC extends ATestCase> {
                     try {
 
 
-                        if (root.getParams() != null) {
-                            root.getParams().executeTest(testInstance, root.getTestMethod(), testCase);
-                        } else {
-                            ReflectionUtils.invokeMethod(root.getTestMethod(), testInstance, testCase);
-                        }
+                        runBody(run, () -> {
+                            if (root.getParams() != null) {
+                                root.getParams().executeTest(run.testInstance(), root.getInvoker(), testCase);
+                            } else {
+                                root.getInvoker().invoke(run.testInstance(), testCase);
+                            }
 
-                        this.run(testCase);
+                            this.run(testCase);
+                        });
 
                         report.setStatus(TestCaseReport.TestReport.Status.SUCCESS);
 
@@ -163,13 +280,13 @@ public abstract class GiwtTestExecutor<TC extends ATestCase> {
 
                         report.addTrace(e.getClass().getName());
 
-                        Arrays.stream(e.getStackTrace()).forEach(element -> report.addTrace("&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;at %s".formatted(element.toString())));
+                        Arrays.stream(e.getStackTrace()).forEach(element -> report.addTrace("at %s".formatted(element)));
 
                         if (e.getCause() != null) {
                             System.out.println(ATestCase.Result.FAILURE.message(e.getCause().getMessage()));
                             report.setFailureReason(e.getCause().getMessage());
                             report.addTrace("Caused by: %s : %s".formatted(e.getCause().getClass().getName(), e.getCause().getMessage()));
-                            Arrays.stream(e.getCause().getStackTrace()).forEach(element -> report.addTrace("&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;at %s".formatted(element.toString())));
+                            Arrays.stream(e.getCause().getStackTrace()).forEach(element -> report.addTrace("at %s".formatted(element)));
                         } else {
                             System.out.println(ATestCase.Result.FAILURE.message(e.getMessage()));
                             report.setFailureReason(e.getMessage());
@@ -182,18 +299,247 @@ public abstract class GiwtTestExecutor<TC extends ATestCase> {
                 });
     }
 
-    private void executeContainer(ExecutionRequest request, TestDescriptor root) {
-        EngineExecutionListener listener = request.getEngineExecutionListener();
+    /**
+     * Runs the body of a test on the {@link WorkerPool#forTestBodies(ConfigurationParameters) test bodies pool},
+     * as the current test of the worker thread.
+     */
+    private static void runBody(Run run, Runnable body) {
+        Optional<CurrentTest> currentTest = CurrentTest.get();
+        run.bodies().run(() -> currentTest.ifPresentOrElse(test -> test.run(body), body));
+    }
+
+    private void executeContainer(Run run, TestDescriptor root) {
+        EngineExecutionListener listener = run.listener();
 
         listener.executionStarted(root);
 
-        root.getChildren().forEach(child -> execute(request, child));
+        if (root instanceof EngineDescriptor && EnvVars.isEnabled(run.configuration(), EnvVars.PARALLEL_EXECUTION)) {
+            executeConcurrently(run, root.getChildren());
+        } else {
+            root.getChildren().forEach(child -> execute(run, child));
+        }
 
         listener.executionFinished(root, TestExecutionResult.successful());
     }
 
-    private Optional<TestCaseReport> getReport() {
-        return Optional.ofNullable(report);
+    /**
+     * Executes the rows of a parameterized test, either one after another or,
+     * when its {@link GiwtParameterizedMethodTestDescriptor#getParallelism() parallelism} is greater than 1, concurrently.
+     */
+    private void executeRows(Run run, GiwtParameterizedMethodTestDescriptor root) {
+        EngineExecutionListener listener = run.listener();
+
+        listener.executionStarted(root);
+
+        try {
+            if (root.getParallelism() > 1) {
+                executeRowsConcurrently(run, root);
+            } else {
+                forEachRow(run, root, row -> {
+                    execute(run, row);
+                    release(root, row);
+                });
+            }
+        } catch (Throwable e) {
+            listener.executionFinished(root, TestExecutionResult.failed(e));
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+
+        listener.executionFinished(root, TestExecutionResult.successful());
+    }
+
+    /**
+     * Executes the rows of a parameterized test on a bounded worker pool.
+     * <p>
+     * At most twice the parallelism rows are in flight, so that streamed rows are still pulled lazily.
+     * The listener events and the report of each row are recorded while it runs
+     * and replayed, in row order, once it (and every row before it) has completed.
+     * The first failure (if any) is rethrown once every row in flight has completed and been replayed.
+     * </p>
+     */
+    private void executeRowsConcurrently(Run run, GiwtParameterizedMethodTestDescriptor root) {
+        int parallelism = root.getParallelism();
+
+        Deque<Runnable> window = new ArrayDeque<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        Runnable completeFirstRow = () -> {
+            try {
+                window.poll().run();
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        };
+
+        try (WorkerPool pool = WorkerPool.create(run.configuration(), parallelism)) {
+            try {
+                forEachRow(run, root, row -> {
+                    if (window.size() >= 2 * parallelism) completeFirstRow.run();
+
+                    RowRecorder recorder = new RowRecorder(run.listener());
+                    Future<?> task = pool.submit(() -> execute(run.withListener(recorder), row));
+
+                    window.add(() -> {
+                        try {
+                            WorkerPool.join(task);
+                        } finally {
+                            recorder.replay();
+                            release(root, row);
+                        }
+                    });
+                });
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+
+            while (!window.isEmpty()) completeFirstRow.run();
+        }
+
+        if (!errors.isEmpty()) {
+            Throwable error = errors.get(0);
+            errors.subList(1, errors.size()).forEach(error::addSuppressed);
+            ExceptionUtils.throwAsUncheckedException(error);
+        }
+    }
+
+    /**
+     * Hands each row of a parameterized test to the given action.
+     * Dynamic rows are pulled one at a time, attached to the parameterized descriptor and registered as dynamic tests.
+     */
+    private void forEachRow(Run run, GiwtParameterizedMethodTestDescriptor root, Consumer<TestDescriptor> action) {
+        if (root.hasDynamicRows()) {
+            root.forEachDynamicRow(row -> {
+                root.addChild(row);
+                run.listener().dynamicTestRegistered(row);
+                action.accept(row);
+            });
+        } else {
+            List.copyOf(root.getChildren()).forEach(action);
+        }
+    }
+
+    /**
+     * Detaches an executed dynamic row so that memory usage does not grow with the number of rows.
+     */
+    private static void release(GiwtParameterizedMethodTestDescriptor root, TestDescriptor row) {
+        if (root.hasDynamicRows()) root.removeChild(row);
+    }
+
+    /**
+     * Executes each descriptor on a dedicated {@link WorkerPool} and waits for all of them to complete.
+     * Descriptors are submitted {@link TimingStore#longestFirst(Collection) longest first}, so that the workers
+     * pick them up in the order of a longest-processing-time schedule.
+     * The first failure (if any) is rethrown once every descriptor has been executed.
+     */
+    private void executeConcurrently(Run run, Collection<? extends TestDescriptor> descriptors) {
+        int parallelism = Math.max(1, EnvVars.intValue(run.configuration(), EnvVars.PARALLELISM, WorkerPool.defaultParallelism(run.configuration())));
+
+        try (WorkerPool pool = WorkerPool.create(run.configuration(), parallelism)) {
+            List<Future<?>> tasks = run.timings().longestFirst(descriptors).stream()
+                    .<Future<?>>map(descriptor -> pool.submit(() -> execute(run, descriptor)))
+                    .toList();
+
+            Throwable error = null;
+
+            for (Future<?> task : tasks) {
+                try {
+                    WorkerPool.join(task);
+                } catch (Throwable e) {
+                    if (error == null) error = e;
+                    else error.addSuppressed(e);
+                }
+            }
+
+            if (error != null) ExceptionUtils.throwAsUncheckedException(error);
+        }
+    }
+
+    /**
+     * The state of a test run, handed down the descriptor tree instead of being kept in the executor
+     * so that several descriptors can be executed at the same time.
+     *
+     * @param configuration   the configuration parameters of the execution request
+     * @param listener        the engine execution listener
+     * @param report          the run report (null if report generation is disabled)
+     * @param reportSink      the sink the class reports are written to (null if report generation is disabled)
+     * @param timings         the store of the durations of the test classes and tests
+     * @param metrics         the metrics of the run
+     * @param trace           the writer of the timeline of the run
+     * @param resources       the meter of the resources used by the tests
+     * @param testInstance    the instance of the test class being executed
+     * @param allCallbacksRan true if the beforeAll/afterAll callbacks are handled by the enclosing class descriptor
+     */
+    private record Run(ConfigurationParameters configuration, EngineExecutionListener listener, TestCaseReport report,
+                       ReportSink reportSink, TimingStore timings, GiwtMetrics metrics, TraceWriter trace,
+                       ResourceMeter resources, WorkerPool bodies, Object testInstance, boolean allCallbacksRan) {
+
+        Run inClass(Object testInstance) {
+            return new Run(configuration, listener, report, reportSink, timings, metrics, trace, resources, bodies, testInstance, true);
+        }
+
+        Run withTestInstance(Object testInstance) {
+            return new Run(configuration, listener, report, reportSink, timings, metrics, trace, resources, bodies, testInstance, allCallbacksRan);
+        }
+
+        Run withListener(EngineExecutionListener listener) {
+            return new Run(configuration, listener, report, reportSink, timings, metrics, trace, resources, bodies, testInstance, allCallbacksRan);
+        }
+
+        Run withReportSink(ReportSink reportSink) {
+            return new Run(configuration, listener, report, reportSink, timings, metrics, trace, resources, bodies, testInstance, allCallbacksRan);
+        }
+
+        Optional<TestCaseReport> getReport() {
+            return Optional.ofNullable(report);
+        }
+    }
+
+    /**
+     * Records the listener events (and report updates) of a row executed on a worker thread,
+     * so that they can be replayed in row order on the calling thread.
+     */
+    private static final class RowRecorder implements EngineExecutionListener {
+
+        private final EngineExecutionListener delegate;
+
+        private final List<Runnable> events = new ArrayList<>();
+
+        RowRecorder(EngineExecutionListener delegate) {
+            this.delegate = delegate;
+        }
+
+        void defer(Runnable action) {
+            events.add(action);
+        }
+
+        void replay() {
+            events.forEach(Runnable::run);
+        }
+
+        @Override
+        public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+            defer(() -> delegate.dynamicTestRegistered(testDescriptor));
+        }
+
+        @Override
+        public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+            defer(() -> delegate.executionSkipped(testDescriptor, reason));
+        }
+
+        @Override
+        public void executionStarted(TestDescriptor testDescriptor) {
+            defer(() -> delegate.executionStarted(testDescriptor));
+        }
+
+        @Override
+        public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+            defer(() -> delegate.executionFinished(testDescriptor, testExecutionResult));
+        }
+
+        @Override
+        public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+            defer(() -> delegate.reportingEntryPublished(testDescriptor, entry));
+        }
     }
 
 }
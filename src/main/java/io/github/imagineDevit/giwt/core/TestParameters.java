@@ -1,16 +1,19 @@
 package io.github.imagineDevit.giwt.core;
 
-import org.junit.platform.commons.util.ReflectionUtils;
+import io.github.imagineDevit.giwt.core.utils.MethodInvoker;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 /**
  * Test parameters
+ * <p>
+ * Parameters can either be given eagerly ({@link #of(Parameter[])}) or be streamed
+ * ({@link #of(Stream)}, {@link #of(Iterator)}, {@link #of(Spliterator)}).
+ * Streamed parameters are only pulled, one row at a time, when the parameterized test is executed.
+ * </p>
  *
  * @param <T>
  * @author Henri Joel SEDJAME
@@ -21,6 +24,11 @@ public final class TestParameters<T extends TestParameters.Parameter> {
 
     private final List<T> parameters = new ArrayList<>();
 
+    private Spliterator<T> rows;
+
+    private Runnable onClose = () -> {
+    };
+
     @SafeVarargs
     public static <R extends Parameter> TestParameters<R> of(R... parameters) {
         TestParameters<R> testParameters = new TestParameters<>();
@@ -28,10 +36,69 @@ public final class TestParameters<T extends TestParameters.Parameter> {
         return testParameters;
     }
 
+    /**
+     * Creates streamed test parameters. The stream is closed once all its rows have been consumed.
+     *
+     * @param rows the parameters stream
+     * @param <R>  the parameter type
+     * @return the test parameters
+     */
+    public static <R extends Parameter> TestParameters<R> of(Stream<R> rows) {
+        TestParameters<R> testParameters = of(rows.spliterator());
+        testParameters.onClose = rows::close;
+        return testParameters;
+    }
+
+    public static <R extends Parameter> TestParameters<R> of(Iterator<R> rows) {
+        return of(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL));
+    }
+
+    public static <R extends Parameter> TestParameters<R> of(Spliterator<R> rows) {
+        TestParameters<R> testParameters = new TestParameters<>();
+        testParameters.rows = Objects.requireNonNull(rows);
+        return testParameters;
+    }
+
+    /**
+     * @return true if the parameters are streamed, false if they were given eagerly
+     */
+    public boolean isStreamed() {
+        return rows != null;
+    }
+
+    /**
+     * Returns all the parameters.
+     * Streamed parameters are materialized (and therefore consumed) by this method.
+     *
+     * @return the parameters list
+     */
     public List<T> getParameters() {
+        if (isStreamed()) {
+            forEach(parameters::add);
+            rows = null;
+        }
         return parameters;
     }
 
+    /**
+     * Consumes the parameters one row at a time, then releases the underlying source.
+     * Streamed parameters can only be consumed once.
+     *
+     * @param consumer the row consumer
+     */
+    public synchronized void forEach(Consumer<? super T> consumer) {
+        if (!isStreamed()) {
+            parameters.forEach(consumer);
+            return;
+        }
+
+        try {
+            rows.forEachRemaining(consumer);
+        } finally {
+            onClose.run();
+        }
+    }
+
     public abstract sealed static class Parameter {
 
         Object[] paramValues;
@@ -41,7 +108,7 @@ public final class TestParameters<T extends TestParameters.Parameter> {
             System.arraycopy(args, 0, paramValues, 0, len);
         }
 
-        abstract void executeTest(Object testInstance, Method method, ATestCase<?, ?, ?, ?> ATestCase);
+        abstract void executeTest(Object testInstance, MethodInvoker invoker, ATestCase<?, ?, ?, ?> ATestCase);
 
         public String formatName(String name) {
             for (int i = 0; i < paramValues.length; i++) {
@@ -61,8 +128,8 @@ public final class TestParameters<T extends TestParameters.Parameter> {
             }
 
             @Override
-            void executeTest(Object testInstance, Method method, ATestCase<?, ?, ?, ?> ATestCase) {
-                ReflectionUtils.invokeMethod(method, testInstance, ATestCase, paramValues[0]);
+            void executeTest(Object testInstance, MethodInvoker invoker, ATestCase<?, ?, ?, ?> ATestCase) {
+                invoker.invoke(testInstance, ATestCase, paramValues[0]);
             }
         }
 
@@ -76,8 +143,8 @@ public final class TestParameters<T extends TestParameters.Parameter> {
             }
 
             @Override
-            void executeTest(Object testInstance, Method method, ATestCase<?, ?, ?, ?> ATestCase) {
-                ReflectionUtils.invokeMethod(method, testInstance, ATestCase, paramValues[0], paramValues[1]);
+            void executeTest(Object testInstance, MethodInvoker invoker, ATestCase<?, ?, ?, ?> ATestCase) {
+                invoker.invoke(testInstance, ATestCase, paramValues[0], paramValues[1]);
             }
         }
 
@@ -91,8 +158,8 @@ public final class TestParameters<T extends TestParameters.Parameter> {
             }
 
             @Override
-            void executeTest(Object testInstance, Method method, ATestCase<?, ?, ?, ?> ATestCase) {
-                ReflectionUtils.invokeMethod(method, testInstance, ATestCase, paramValues[0], paramValues[1], paramValues[2]);
+            void executeTest(Object testInstance, MethodInvoker invoker, ATestCase<?, ?, ?, ?> ATestCase) {
+                invoker.invoke(testInstance, ATestCase, paramValues[0], paramValues[1], paramValues[2]);
             }
         }
 
@@ -106,8 +173,8 @@ public final class TestParameters<T extends TestParameters.Parameter> {
             }
 
             @Override
-            void executeTest(Object testInstance, Method method, ATestCase<?, ?, ?, ?> ATestCase) {
-                ReflectionUtils.invokeMethod(method, testInstance, ATestCase, paramValues[0], paramValues[1], paramValues[2], paramValues[3]);
+            void executeTest(Object testInstance, MethodInvoker invoker, ATestCase<?, ?, ?, ?> ATestCase) {
+                invoker.invoke(testInstance, ATestCase, paramValues[0], paramValues[1], paramValues[2], paramValues[3]);
             }
 
         }
@@ -122,8 +189,8 @@ public final class TestParameters<T extends TestParameters.Parameter> {
             }
 
             @Override
-            void executeTest(Object testInstance, Method method, ATestCase<?, ?, ?, ?> ATestCase) {
-                ReflectionUtils.invokeMethod(method, testInstance, ATestCase, paramValues[0], paramValues[1], paramValues[2], paramValues[3], paramValues[4]);
+            void executeTest(Object testInstance, MethodInvoker invoker, ATestCase<?, ?, ?, ?> ATestCase) {
+                invoker.invoke(testInstance, ATestCase, paramValues[0], paramValues[1], paramValues[2], paramValues[3], paramValues[4]);
             }
 
         }
@@ -0,0 +1,60 @@
+package io.github.imagineDevit.giwt.core.annotations;
+
+import org.junit.platform.commons.annotation.Testable;
+
+import java.lang.annotation.*;
+
+/**
+ * The {@code Benchmark} annotation is used to mark a method as a test case whose WHEN step is benchmarked.
+ * <p>
+ * The GIVEN steps are run once. The WHEN step is then run {@code warmupIterations} times, whose measures are discarded,
+ * and {@code iterations} times, each iteration invoking it {@code batchSize} times.
+ * The results of the invocations are consumed so that they cannot be optimized away by the JIT compiler.
+ * The THEN steps are run once, on the result of the last invocation.
+ * The mean, error and percentiles of the duration of one invocation are added to the test report.
+ * </p>
+ *
+ * <pre>Example usage:</pre>
+ * <pre>{@code
+ * @Benchmark(value = "sum of the list", iterations = 20)
+ * void sum(TestCase<List<Integer>, Integer> testCase) {
+ *         testCase
+ *                 .given("a list of 1000 integers", () -> IntStream.range(0, 1000).boxed().toList())
+ *                 .when("the integers are summed", list -> list.stream().mapToInt(i -> i).sum())
+ *                 .then("the result should be 499500", result -> result.shouldBe().equalTo(499500));
+ *     }
+ *
+ * }</pre>
+ *
+ * @author Henri Joel SEDJAME
+ * @see Test
+ * @since 0.1.4
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@Test
+@Testable
+@Documented
+public @interface Benchmark {
+
+    /**
+     * @return the test case name
+     */
+    String value() default "";
+
+    /**
+     * @return the number of iterations run before the measured ones
+     */
+    int warmupIterations() default 5;
+
+    /**
+     * @return the number of measured iterations
+     */
+    int iterations() default 10;
+
+    /**
+     * @return the number of invocations of the WHEN step per iteration
+     */
+    int batchSize() default 1;
+}
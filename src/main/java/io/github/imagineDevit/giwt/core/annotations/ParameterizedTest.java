@@ -49,4 +49,15 @@ public @interface ParameterizedTest {
      * @return the parameter source name
      */
     String source();
+
+    /**
+     * The maximum number of rows executed at the same time.
+     * <p>
+     * Rows are still reported in their declaration order.
+     * When greater than 1, rows share the same test instance and must therefore not rely on its mutable state.
+     * </p>
+     *
+     * @return the rows parallelism (defaults to 1, i.e. sequential execution)
+     */
+    int parallelism() default 1;
 }
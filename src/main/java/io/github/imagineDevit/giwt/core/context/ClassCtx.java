@@ -3,21 +3,65 @@ package io.github.imagineDevit.giwt.core.context;
 import io.github.imagineDevit.giwt.core.TestConfiguration;
 import io.github.imagineDevit.giwt.core.TestParameters;
 import io.github.imagineDevit.giwt.core.callbacks.GiwtCallbacks;
+import io.github.imagineDevit.giwt.core.utils.Lazy;
 
 import java.lang.reflect.Method;
-import java.util.*;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
+/**
+ * The context of a test class.
+ * <p>
+ * The test instance, the configuration and the callbacks (and therefore the extensions) are only created
+ * when first accessed, that is when the test class is executed, and can be {@link #release() released} afterwards.
+ * </p>
+ *
+ * @param testClass         the test class
+ * @param lazyInstance      the test instance
+ * @param lazyConfiguration the test configuration
+ * @param lazyCallbacks     the test callbacks
+ * @param parameters        the parameterized tests parameters, by method name
+ * @param testMethods       the test methods
+ */
 public record ClassCtx<T>(
-        T instance,
-        TestConfiguration configuration,
-        GiwtCallbacks callbacks,
-        Map<String, List<? extends TestParameters.Parameter>> parameters,
+        Class<?> testClass,
+        Lazy<T> lazyInstance,
+        Lazy<TestConfiguration> lazyConfiguration,
+        Lazy<GiwtCallbacks> lazyCallbacks,
+        Map<String, TestParameters<?>> parameters,
         Set<TestMethod> testMethods) {
 
     public ClassCtx {
-        Objects.requireNonNull(instance);
-        parameters = Objects.requireNonNullElse(parameters, new HashMap<>());
-        testMethods = Objects.requireNonNullElse(testMethods, new TreeSet<>());
+        Objects.requireNonNull(testClass);
+        Objects.requireNonNull(lazyInstance);
+        Objects.requireNonNull(lazyConfiguration);
+        Objects.requireNonNull(lazyCallbacks);
+        parameters = Objects.requireNonNullElse(parameters, new ConcurrentHashMap<>());
+        testMethods = Objects.requireNonNullElse(testMethods, new ConcurrentSkipListSet<>());
+    }
+
+    public T instance() {
+        return Objects.requireNonNull(lazyInstance.get());
+    }
+
+    public TestConfiguration configuration() {
+        return lazyConfiguration.get();
+    }
+
+    public GiwtCallbacks callbacks() {
+        return lazyCallbacks.get();
+    }
+
+    /**
+     * Releases the test instance, the configuration and the callbacks.
+     */
+    public void release() {
+        lazyCallbacks.release();
+        lazyInstance.release();
+        lazyConfiguration.release();
     }
 
     public record TestMethod(Boolean isParameterized, Method method) implements Comparable<TestMethod> {
@@ -0,0 +1,127 @@
+package io.github.imagineDevit.giwt.core.context;
+
+import io.github.imagineDevit.giwt.core.annotations.*;
+import io.github.imagineDevit.giwt.core.callbacks.Callback;
+import io.github.imagineDevit.giwt.core.utils.Utils;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The reflective metadata of a test class.
+ * <p>
+ * It is computed with a single scan of the class methods the first time it is requested
+ * and is then shared by every discovery and execution stage.
+ * </p>
+ *
+ * @param testMethods              the methods annotated with {@link Test}
+ * @param parameterizedTestMethods the methods annotated with {@link ParameterizedTest}
+ * @param parameterSources         the methods annotated with {@link ParameterSource}
+ * @param callbackMethods          the callback methods by callback annotation, sorted by invocation order
+ * @param extensions               the extension classes declared with {@link ExtendWith}
+ * @param displayNames             the display name of each test method
+ * @param skipReasons              the skip reason of each skipped test method
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public record ClassMetadata(
+        List<Method> testMethods,
+        List<Method> parameterizedTestMethods,
+        List<Method> parameterSources,
+        Map<Class<? extends Annotation>, List<Method>> callbackMethods,
+        List<Class<? extends Callback>> extensions,
+        Map<Method, String> displayNames,
+        Map<Method, String> skipReasons) {
+
+    private static final Map<Class<? extends Annotation>, Function<Method, Integer>> CALLBACK_ORDERS = Map.of(
+            BeforeAll.class, m -> AnnotationSupport.findAnnotation(m, BeforeAll.class).map(BeforeAll::order).orElse(0),
+            AfterAll.class, m -> AnnotationSupport.findAnnotation(m, AfterAll.class).map(AfterAll::order).orElse(0),
+            BeforeEach.class, m -> AnnotationSupport.findAnnotation(m, BeforeEach.class).map(BeforeEach::order).orElse(0),
+            AfterEach.class, m -> AnnotationSupport.findAnnotation(m, AfterEach.class).map(AfterEach::order).orElse(0)
+    );
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    public static ClassMetadata of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    public boolean hasTestMethods() {
+        return !testMethods.isEmpty() || !parameterizedTestMethods.isEmpty();
+    }
+
+    public List<Method> callbackMethods(Class<? extends Annotation> annotation) {
+        return callbackMethods.getOrDefault(annotation, List.of());
+    }
+
+    public String displayName(Method method) {
+        return Optional.ofNullable(displayNames.get(method)).orElseGet(() -> Utils.computeTestName(method));
+    }
+
+    public Optional<String> skipReason(Method method) {
+        return Optional.ofNullable(skipReasons.get(method));
+    }
+
+    private static ClassMetadata build(Class<?> clazz) {
+
+        List<Method> methods = ReflectionUtils.findMethods(clazz, ClassMetadata::isGiwtMethod);
+
+        List<Method> testMethods = annotatedWith(methods, Test.class);
+        List<Method> parameterizedTestMethods = annotatedWith(methods, ParameterizedTest.class);
+
+        Map<Class<? extends Annotation>, List<Method>> callbackMethods = new HashMap<>();
+        CALLBACK_ORDERS.forEach((annotation, order) ->
+                callbackMethods.put(annotation, annotatedWith(methods, annotation).stream().sorted(Comparator.comparing(order)).toList())
+        );
+
+        List<Class<? extends Callback>> extensions = AnnotationSupport.findAnnotation(clazz, ExtendWith.class)
+                .map(ExtendWith::value)
+                .map(List::of)
+                .orElse(List.of());
+
+        Optional<String> classSkipReason = AnnotationSupport.findAnnotation(clazz, Skipped.class).map(Skipped::reason);
+
+        Map<Method, String> displayNames = new HashMap<>();
+        Map<Method, String> skipReasons = new HashMap<>();
+
+        Stream.concat(testMethods.stream(), parameterizedTestMethods.stream())
+                .forEach(method -> {
+                    displayNames.put(method, Utils.computeTestName(method));
+                    AnnotationSupport.findAnnotation(method, Skipped.class)
+                            .map(Skipped::reason)
+                            .or(() -> classSkipReason)
+                            .ifPresent(reason -> skipReasons.put(method, reason));
+                });
+
+        return new ClassMetadata(
+                testMethods,
+                parameterizedTestMethods,
+                annotatedWith(methods, ParameterSource.class),
+                Collections.unmodifiableMap(callbackMethods),
+                extensions,
+                Collections.unmodifiableMap(displayNames),
+                Collections.unmodifiableMap(skipReasons)
+        );
+    }
+
+    private static boolean isGiwtMethod(Method method) {
+        return AnnotationSupport.isAnnotated(method, Test.class)
+                || AnnotationSupport.isAnnotated(method, ParameterizedTest.class)
+                || AnnotationSupport.isAnnotated(method, ParameterSource.class)
+                || CALLBACK_ORDERS.keySet().stream().anyMatch(a -> AnnotationSupport.isAnnotated(method, a));
+    }
+
+    private static List<Method> annotatedWith(List<Method> methods, Class<? extends Annotation> annotation) {
+        return methods.stream().filter(m -> AnnotationSupport.isAnnotated(m, annotation)).toList();
+    }
+}
@@ -5,64 +5,111 @@ import io.github.imagineDevit.giwt.core.TestParameters;
 import io.github.imagineDevit.giwt.core.annotations.*;
 import io.github.imagineDevit.giwt.core.callbacks.*;
 import io.github.imagineDevit.giwt.core.errors.ParameterSourceException;
+import io.github.imagineDevit.giwt.core.jfr.CallbackEvent;
+import io.github.imagineDevit.giwt.core.jfr.ParameterSourceEvent;
 import io.github.imagineDevit.giwt.core.utils.GiwtPredicates;
-import org.junit.platform.commons.support.AnnotationSupport;
+import io.github.imagineDevit.giwt.core.utils.MethodInvoker;
 import org.junit.platform.commons.util.ReflectionUtils;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class ContextUtils {
 
     static TestConfiguration getConfiguration(Class<?> testClass) {
-        return Optional.ofNullable(testClass.getAnnotation(ConfigureWith.class))
-                .map(ConfigureWith::value)
+        return getConfigurationClass(testClass)
                 .map(ReflectionUtils::newInstance)
                 .orElse(null);
     }
 
+    static Optional<Class<? extends TestConfiguration>> getConfigurationClass(Class<?> testClass) {
+        return Optional.ofNullable(testClass.getAnnotation(ConfigureWith.class))
+                .map(ConfigureWith::value);
+    }
+
+    /**
+     * Resolves the callbacks of a test instance.
+     * <p>
+     * Each callback chain is resolved once into an ordered array of pre-bound calls,
+     * the extensions being instantiated once and shared by all the chains.
+     * Extension callbacks run before the test class own {@code before} callbacks and after its own {@code after} callbacks.
+     * </p>
+     */
     static GiwtCallbacks getCallbacks(Object testInstance) {
+        var metadata = ClassMetadata.of(testInstance.getClass());
 
-        return new GiwtCallbacks(
-                () ->
-                        runCallbacks(
-                                getBeforeAllMethods(testInstance),
-                                m -> Optional.ofNullable(m.getAnnotation(BeforeAll.class)).map(BeforeAll::order).orElse(0)
-                        ),
-                () ->
-                        runCallbacks(
-                                getAfterAllMethods(testInstance),
-                                m -> Optional.ofNullable(m.getAnnotation(AfterAll.class)).map(AfterAll::order).orElse(0)
-                        ),
-                () ->
-                        runCallbacks(
-                                getBeforeEachMethods(testInstance),
-                                m -> Optional.ofNullable(m.getAnnotation(BeforeEach.class)).map(BeforeEach::order).orElse(0)
-                        ),
-                () ->
-                        runCallbacks(
-                                getAfterEachMethods(testInstance),
-                                m -> Optional.ofNullable(m.getAnnotation(AfterEach.class)).map(AfterEach::order).orElse(0)
-                        )
+        List<Callback> extensions = metadata.extensions().stream()
+                .<Callback>map(ReflectionUtils::newInstance)
+                .toList();
+
+        Runnable[] beforeAll = chain(
+                extensionCallbacks(extensions, BeforeAllCallback.class, c -> c::beforeAll),
+                methodCallbacks(testInstance, metadata.callbackMethods(BeforeAll.class))
+        );
+        Runnable[] afterAll = chain(
+                methodCallbacks(testInstance, metadata.callbackMethods(AfterAll.class)),
+                extensionCallbacks(extensions, AfterAllCallback.class, c -> c::afterAll)
+        );
+        Runnable[] beforeEach = chain(
+                extensionCallbacks(extensions, BeforeEachCallback.class, c -> c::beforeEach),
+                methodCallbacks(testInstance, metadata.callbackMethods(BeforeEach.class))
+        );
+        Runnable[] afterEach = chain(
+                methodCallbacks(testInstance, metadata.callbackMethods(AfterEach.class)),
+                extensionCallbacks(extensions, AfterEachCallback.class, c -> c::afterEach)
+        );
+
+        String className = testInstance.getClass().getName();
 
+        return new GiwtCallbacks(
+                () -> runCallbacks(className, Callback.Methods.BEFORE_ALL, beforeAll),
+                () -> runCallbacks(className, Callback.Methods.AFTER_ALL, afterAll),
+                () -> runCallbacks(className, Callback.Methods.BEFORE_EACH, beforeEach),
+                () -> runCallbacks(className, Callback.Methods.AFTER_EACH, afterEach)
         );
     }
 
-    @SuppressWarnings("unchecked")
-    static List<? extends TestParameters.Parameter> getParameters(Method method, TestConfiguration configuration) {
-        var methodSource = getParameterSource(method, configuration);
+    static List<? extends TestParameters.Parameter> getParameters(Method method, Class<? extends TestConfiguration> configurationClass) {
+        return getTestParameters(method, configurationClass).getParameters();
+    }
+
+    static TestParameters<?> getTestParameters(Method method, Class<? extends TestConfiguration> configurationClass) {
+        var methodSource = getParameterSource(method, configurationClass);
 
-        var instance = ReflectionUtils.newInstance(methodSource.getDeclaringClass());
+        return getTestParameters(method, methodSource, () -> ReflectionUtils.newInstance(methodSource.getDeclaringClass()));
+    }
 
-        var testParameters = (TestParameters<TestParameters.Parameter>) ReflectionUtils.invokeMethod(methodSource, instance);
+    /**
+     * Calls a parameter source.
+     *
+     * @param method       the parameterized test method
+     * @param methodSource the parameter source
+     * @param owner        the supplier of the instance on which the source is called, only called if the source is not static
+     * @return the test parameters
+     */
+    static TestParameters<?> getTestParameters(Method method, Method methodSource, Supplier<?> owner) {
+        ParameterSourceEvent event = new ParameterSourceEvent();
+        event.begin();
+
+        var instance = ReflectionUtils.isStatic(methodSource) ? null : owner.get();
+
+        var parameters = (TestParameters<?>) ReflectionUtils.invokeMethod(methodSource, instance);
+
+        if (event.shouldCommit()) {
+            event.test(method.getDeclaringClass().getName(), method.getName(), null);
+            event.source = methodSource.getName();
+            event.streamed = parameters.isStreamed();
+            event.commit();
+        }
 
-        return testParameters.getParameters();
+        return parameters;
     }
 
-    static Method getParameterSource(Method method, TestConfiguration configuration) {
+    static Method getParameterSource(Method method, Class<? extends TestConfiguration> configurationClass) {
         ParameterizedTest annotation = method.getAnnotation(ParameterizedTest.class);
 
         if (annotation == null) {
@@ -76,8 +123,8 @@ public class ContextUtils {
         var methods = Optional.of(getParameterSourcesMethods(testClass, parameterSource, false))
                 .filter(list -> !list.isEmpty())
                 .orElseGet(() -> {
-                    if (configuration != null) {
-                        return getParameterSourcesMethods(configuration.getClass(), parameterSource, true);
+                    if (configurationClass != null) {
+                        return getParameterSourcesMethods(configurationClass, parameterSource, true);
                     }
                     return Collections.emptyList();
                 });
@@ -98,53 +145,46 @@ public class ContextUtils {
                         .orElse(method.getName())
                         .equals(parameterSource);
 
-        return ReflectionUtils.findMethods(clazz, (Method m) -> GiwtPredicates.isParameterSource(fromConfiguration).test(m) && hasName.test(m));
+        return ClassMetadata.of(clazz).parameterSources().stream()
+                .filter(m -> GiwtPredicates.isParameterSource(fromConfiguration).test(m) && hasName.test(m))
+                .toList();
     }
 
-    private static void runCallbacks(Map<Object, List<Method>> methods, Function<Method, Integer> order) {
-        methods
-                .forEach((instance, ms) ->
-                        ms.stream().sorted(Comparator.comparing(order))
-                                .forEach(m -> ReflectionUtils.invokeMethod(m, instance))
-                );
-    }
+    private static void runCallbacks(String className, String name, Runnable[] callbacks) {
+        if (callbacks.length == 0) return;
 
-    private static Map<Object, List<Method>> getBeforeAllMethods(Object testInstance) {
-        return getCallbackMethods(testInstance, BeforeAll.class, BeforeAllCallback.class, Callback.Methods.BEFORE_ALL);
-    }
+        CallbackEvent event = new CallbackEvent();
+        event.begin();
 
-    private static Map<Object, List<Method>> getAfterAllMethods(Object testInstance) {
-        return getCallbackMethods(testInstance, AfterAll.class, AfterAllCallback.class, Callback.Methods.AFTER_ALL);
-    }
+        for (Runnable callback : callbacks) {
+            callback.run();
+        }
 
-    private static Map<Object, List<Method>> getBeforeEachMethods(Object testInstance) {
-        return getCallbackMethods(testInstance, BeforeEach.class, BeforeEachCallback.class, Callback.Methods.BEFORE_EACH);
+        if (event.shouldCommit()) {
+            event.test(className, null, null);
+            event.currentTest();
+            event.callback = name;
+            event.commit();
+        }
     }
 
-    private static Map<Object, List<Method>> getAfterEachMethods(Object testInstance) {
-        return getCallbackMethods(testInstance, AfterEach.class, AfterEachCallback.class, Callback.Methods.AFTER_EACH);
+    private static Runnable[] chain(List<Runnable> first, List<Runnable> then) {
+        return Stream.concat(first.stream(), then.stream()).toArray(Runnable[]::new);
     }
 
-    private static Map<Object, List<Method>> getCallbackMethods(Object testInstance, Class<? extends Annotation> annotationClazz, Class<? extends Callback> callbackClazz, String callbackMethod) {
-        var map = new HashMap<Object, List<Method>>();
-        var testClass = testInstance.getClass();
-
-        map.put(testInstance, (ReflectionUtils.findMethods(testClass, m -> AnnotationSupport.isAnnotated(m, annotationClazz))));
-
-        Optional.ofNullable(testClass.getAnnotation(ExtendWith.class))
-                .map(ExtendWith::value)
-                .map(Arrays::asList)
-                .orElse(new ArrayList<>())
-                .forEach(clazz -> {
-                    if (callbackClazz.isAssignableFrom(clazz)) {
-                        ReflectionUtils.findMethod(clazz, callbackMethod)
-                                .ifPresent(method ->
-                                        map.put(ReflectionUtils.newInstance(clazz), Collections.singletonList(method))
-                                );
-                    }
-                });
+    private static List<Runnable> methodCallbacks(Object testInstance, List<Method> methods) {
+        return methods.stream()
+                .map(MethodInvoker::of)
+                .<Runnable>map(invoker -> () -> invoker.invoke(testInstance))
+                .toList();
+    }
 
-        return map;
+    private static <C extends Callback> List<Runnable> extensionCallbacks(List<Callback> extensions, Class<C> callbackClazz, Function<C, Runnable> callback) {
+        return extensions.stream()
+                .filter(callbackClazz::isInstance)
+                .map(callbackClazz::cast)
+                .map(callback)
+                .toList();
     }
 
 }
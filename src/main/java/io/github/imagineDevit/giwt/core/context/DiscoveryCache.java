@@ -0,0 +1,201 @@
+package io.github.imagineDevit.giwt.core.context;
+
+import io.github.imagineDevit.giwt.core.annotations.ConfigureWith;
+import io.github.imagineDevit.giwt.core.utils.EnvVars;
+import io.github.imagineDevit.giwt.core.utils.Utils;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A persistent cache of the validated test methods of the test classes, stored in the giwt build directory.
+ * <p>
+ * Each entry is keyed by a SHA-256 hash of the bytecode of the test class, of its superclasses
+ * and of its {@link ConfigureWith configuration} class (and superclasses),
+ * so that a test class is validated again as soon as one of them changes.
+ * Unchanged test classes skip the validation on the next runs.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see EnvVars#DISCOVERY_CACHE
+ * @since 0.1.4
+ */
+public final class DiscoveryCache {
+
+    public static final String FILE = "discovery-cache";
+
+    /**
+     * Changed whenever the validation rules change, so that entries written by another version are ignored
+     */
+    private static final String VERSION = "1";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final String PARAMETERIZED = "*";
+
+    private static final DiscoveryCache DISABLED = new DiscoveryCache(null, Map.of());
+
+    private final Path file;
+
+    private final Map<String, Entry> entries;
+
+    private final AtomicBoolean modified = new AtomicBoolean(false);
+
+    private DiscoveryCache(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Opens the cache of the giwt build directory when {@link EnvVars#DISCOVERY_CACHE} is enabled.
+     *
+     * @param configuration the configuration parameters of the discovery request
+     * @return the cache, or a disabled cache
+     */
+    public static DiscoveryCache open(ConfigurationParameters configuration) {
+        if (!EnvVars.isEnabled(configuration, EnvVars.DISCOVERY_CACHE)) return DISABLED;
+
+        // no build directory: the discovery is not cached
+        return Utils.giwtFile(FILE).map(DiscoveryCache::load).orElse(DISABLED);
+    }
+
+    public static DiscoveryCache disabled() {
+        return DISABLED;
+    }
+
+    public static DiscoveryCache load(Path file) {
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        if (Files.isRegularFile(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                if (VERSION.equals(reader.readLine())) {
+                    reader.lines()
+                            .map(line -> line.split(SEPARATOR))
+                            .filter(columns -> columns.length >= 2)
+                            .forEach(columns -> entries.put(columns[0], new Entry(columns[1], Set.of(Arrays.copyOfRange(columns, 2, columns.length)))));
+                }
+            } catch (IOException | UncheckedIOException e) {
+                // a corrupted cache is ignored, and overwritten on save
+                entries.clear();
+            }
+        }
+
+        return new DiscoveryCache(file, entries);
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Returns the validated test methods of a test class, if the class has not changed since they were cached.
+     *
+     * @param testClass the test class
+     * @return the test methods, or an empty optional if the class is not cached or has changed
+     */
+    public Optional<List<ClassCtx.TestMethod>> get(Class<?> testClass) {
+        if (!isEnabled()) return Optional.empty();
+
+        Entry entry = entries.get(testClass.getName());
+
+        if (entry == null || !hash(testClass).map(entry.hash()::equals).orElse(false)) return Optional.empty();
+
+        ClassMetadata metadata = ClassMetadata.of(testClass);
+
+        List<ClassCtx.TestMethod> testMethods = new ArrayList<>();
+        metadata.testMethods().stream()
+                .filter(m -> entry.testMethods().contains(m.getName()))
+                .forEach(m -> testMethods.add(new ClassCtx.TestMethod(false, m)));
+        metadata.parameterizedTestMethods().stream()
+                .filter(m -> entry.testMethods().contains(PARAMETERIZED + m.getName()))
+                .forEach(m -> testMethods.add(new ClassCtx.TestMethod(true, m)));
+
+        return Optional.of(testMethods);
+    }
+
+    /**
+     * Caches the validated test methods of a test class.
+     *
+     * @param testClass   the test class
+     * @param testMethods the validated test methods
+     */
+    public void put(Class<?> testClass, Collection<ClassCtx.TestMethod> testMethods) {
+        if (!isEnabled()) return;
+
+        hash(testClass).ifPresent(hash -> {
+            Set<String> names = new TreeSet<>();
+            testMethods.forEach(tm -> names.add((tm.isParameterized() ? PARAMETERIZED : "") + tm.method().getName()));
+            entries.put(testClass.getName(), new Entry(hash, names));
+            modified.set(true);
+        });
+    }
+
+    /**
+     * Writes the cache, if it has been modified.
+     *
+     * @see Utils#writeAtomically(Path, Utils.FileContent)
+     */
+    public void save() {
+        if (!isEnabled() || !modified.compareAndSet(true, false)) return;
+
+        Utils.writeAtomically(file, writer -> {
+            writer.write(VERSION + "\n");
+            for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+                writer.write(e.getKey() + SEPARATOR + e.getValue().hash());
+                for (String method : e.getValue().testMethods()) {
+                    writer.write(SEPARATOR + method);
+                }
+                writer.write("\n");
+            }
+        });
+    }
+
+    /**
+     * Computes the hash of a test class, or returns an empty optional if the bytecode of the class cannot be read.
+     */
+    static Optional<String> hash(Class<?> testClass) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            if (!update(digest, testClass)) return Optional.empty();
+
+            Optional.ofNullable(testClass.getAnnotation(ConfigureWith.class))
+                    .map(ConfigureWith::value)
+                    .ifPresent(configurationClass -> update(digest, configurationClass));
+
+            return Optional.of(HexFormat.of().formatHex(digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean update(MessageDigest digest, Class<?> clazz) {
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            ClassLoader classLoader = c.getClassLoader();
+            if (classLoader == null) continue;
+
+            try (InputStream bytecode = classLoader.getResourceAsStream(c.getName().replace('.', '/') + ".class")) {
+                if (bytecode == null) return false;
+                digest.update(c.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(bytecode.readAllBytes());
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    record Entry(String hash, Set<String> testMethods) {
+    }
+}
@@ -3,23 +3,32 @@ package io.github.imagineDevit.giwt.core.context;
 import io.github.imagineDevit.giwt.core.TestConfiguration;
 import io.github.imagineDevit.giwt.core.TestParameters;
 import io.github.imagineDevit.giwt.core.callbacks.GiwtCallbacks;
+import io.github.imagineDevit.giwt.core.utils.Lazy;
 import org.junit.platform.commons.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.*;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The context shared by the discovery and the execution of <strong>giwt</strong> tests.
+ * <p>
+ * Each test class context is created at most once, even when several threads ask for it at the same time.
+ * Creating a class context does not instantiate anything: the test instance, the configuration and the callbacks
+ * are created on first access, when the test class is executed, and released once it has been executed.
+ * </p>
+ *
+ * @param items the test classes contexts
+ */
 public record GiwtContext(Map<Class<?>, ClassCtx<?>> items) {
 
     public GiwtContext {
-        items = Objects.requireNonNullElse(items, new HashMap<>());
+        items = Objects.requireNonNullElse(items, new ConcurrentHashMap<>());
     }
 
     public ClassCtx<?> get(Class<?> testClass) {
-        if (items.containsKey(testClass)) {
-            return items.get(testClass);
-        }
-        add(testClass);
-        return get(testClass);
+        return items.computeIfAbsent(testClass, GiwtContext::createCtx);
     }
 
     public Object getInstanceOf(Class<?> testClass) {
@@ -34,50 +43,71 @@ public record GiwtContext(Map<Class<?>, ClassCtx<?>> items) {
         return get(testClass).callbacks();
     }
 
-    public List<? extends TestParameters.Parameter> getParameters(Class<?> testClass, Method method) {
-
+    /**
+     * Calls the parameter source of a parameterized test once, and caches its result until the test class is removed.
+     * Streamed parameters, which can only be consumed once, are not cached: the source is called on each call.
+     * A source declared by the test class is called on the test instance, a source declared by the configuration
+     * on the configuration instance, both of them being created if needed; a static source is called on no instance.
+     */
+    public TestParameters<?> getParameters(Class<?> testClass, Method method) {
         ClassCtx<?> ctx = get(testClass);
 
-        Map<String, List<? extends TestParameters.Parameter>> parameters = ctx.parameters();
-
-        String name = method.getName();
-
-        if (parameters.containsKey(name)) return parameters.get(name);
-
-        addParameters(testClass, method, ContextUtils.getParameters(method, ctx.configuration()));
+        TestParameters<?> parameters = ctx.parameters().computeIfAbsent(method.getName(), n -> {
+            Method source = getParameterSource(testClass, method);
+            return ContextUtils.getTestParameters(method, source,
+                    () -> source.getDeclaringClass().isAssignableFrom(testClass) ? ctx.instance() : ctx.configuration());
+        });
 
-        return getParameters(testClass, method);
+        // streamed parameters can only be consumed once: they are not kept, the next call invoking the source again
+        if (parameters.isStreamed()) ctx.parameters().remove(method.getName(), parameters);
+        return parameters;
     }
 
     public Method getParameterSource(Method method) {
-        return ContextUtils.getParameterSource(method, getConfiguration(method.getDeclaringClass()).orElse(null));
+        return getParameterSource(method.getDeclaringClass(), method);
+    }
+
+    public Method getParameterSource(Class<?> testClass, Method method) {
+        return ContextUtils.getParameterSource(method, getConfigurationClass(testClass));
     }
 
     public void add(Class<?> testClass) {
-        var testInstance = ReflectionUtils.newInstance(testClass);
-        items.putIfAbsent(
-                testClass,
-                new ClassCtx<>(testInstance, ContextUtils.getConfiguration(testClass), ContextUtils.getCallbacks(testInstance), new HashMap<>(), new TreeSet<>())
-        );
+        get(testClass);
     }
 
     public void add(Object testInstance) {
-        items.putIfAbsent(
-                testInstance.getClass(),
-                new ClassCtx<>(testInstance, ContextUtils.getConfiguration(testInstance.getClass()), ContextUtils.getCallbacks(testInstance), new HashMap<>(), new TreeSet<>())
-        );
+        items.computeIfAbsent(testInstance.getClass(), c -> createCtx(testInstance));
     }
 
     public void remove(Class<?> testClass) {
-        items.remove(testClass);
+        Optional.ofNullable(items.remove(testClass)).ifPresent(ClassCtx::release);
     }
 
     public void addTestMethod(Class<?> testClass, List<Method> methods, boolean isParameterized) {
         get(testClass).testMethods().addAll(methods.stream().map(m -> new ClassCtx.TestMethod(isParameterized, m)).toList());
     }
 
-    private void addParameters(Class<?> testClass, Method method, List<? extends TestParameters.Parameter> ps) {
-        get(testClass).parameters().putIfAbsent(method.getName(), ps);
+    private static Class<? extends TestConfiguration> getConfigurationClass(Class<?> testClass) {
+        return ContextUtils.getConfigurationClass(testClass).orElse(null);
+    }
+
+    private static ClassCtx<?> createCtx(Class<?> testClass) {
+        return createCtx(testClass, Lazy.of(() -> ReflectionUtils.newInstance(testClass)));
+    }
+
+    private static ClassCtx<?> createCtx(Object testInstance) {
+        return createCtx(testInstance.getClass(), Lazy.value(testInstance));
+    }
+
+    private static <T> ClassCtx<T> createCtx(Class<?> testClass, Lazy<T> instance) {
+        return new ClassCtx<>(
+                testClass,
+                instance,
+                Lazy.of(() -> ContextUtils.getConfiguration(testClass)),
+                Lazy.of(() -> ContextUtils.getCallbacks(instance.get())),
+                new ConcurrentHashMap<>(),
+                new ConcurrentSkipListSet<>()
+        );
     }
 
 }
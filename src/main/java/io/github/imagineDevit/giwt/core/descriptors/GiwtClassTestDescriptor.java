@@ -1,15 +1,18 @@
 package io.github.imagineDevit.giwt.core.descriptors;
 
 import io.github.imagineDevit.giwt.core.GiwtTestEngine;
-import io.github.imagineDevit.giwt.core.TestConfiguration;
+import io.github.imagineDevit.giwt.core.TestParameters;
 import io.github.imagineDevit.giwt.core.callbacks.GiwtCallbacks;
 import io.github.imagineDevit.giwt.core.report.TestCaseReport;
 import io.github.imagineDevit.giwt.core.utils.Utils;
+import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 
+import java.lang.reflect.Method;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * A descriptor for a <strong>giwt</strong> test class
@@ -19,25 +22,22 @@ import java.util.function.Consumer;
  */
 public class GiwtClassTestDescriptor extends AbstractTestDescriptor {
 
-    private final Class<?> testClass;
-
-    private final GiwtCallbacks callbacks;
+    /**
+     * The type of the unique id segment of a test class, whose value is the fully qualified name of the class
+     */
+    public static final String SEGMENT_TYPE = "class";
 
-    private final TestConfiguration configuration;
+    private final Class<?> testClass;
 
     public GiwtClassTestDescriptor(Class<?> testClass, UniqueId uniqueId) {
         super(
-                uniqueId.append("class", testClass.getSimpleName()),
+                uniqueId.append(SEGMENT_TYPE, testClass.getName()),
                 testClass.getSimpleName(),
                 ClassSource.from(testClass)
         );
 
         this.testClass = testClass;
 
-        this.callbacks = GiwtTestEngine.CONTEXT.getCallbacks(this.testClass);
-
-        this.configuration = GiwtTestEngine.CONTEXT.getConfiguration(this.testClass).orElse(null);
-
         addAllChildren();
     }
 
@@ -46,6 +46,10 @@ public class GiwtClassTestDescriptor extends AbstractTestDescriptor {
         return Type.CONTAINER;
     }
 
+    public Class<?> getTestClass() {
+        return testClass;
+    }
+
     public TestCaseReport.ClassReport createReport() {
         return new TestCaseReport.ClassReport(this.testClass.getName());
     }
@@ -54,17 +58,46 @@ public class GiwtClassTestDescriptor extends AbstractTestDescriptor {
         return GiwtTestEngine.CONTEXT.getInstanceOf(this.testClass);
     }
 
-    public void execute(Runnable before, Consumer<GiwtClassTestDescriptor> consumer, Runnable after) {
-        before.run();
-        this.callbacks.beforeAllCallback().beforeAll();
-        consumer.accept(this);
-        this.callbacks.afterAllCallback().afterAll();
-        GiwtTestEngine.CONTEXT.remove(this.testClass);
-        after.run();
+    /**
+     * Executes the test class. The test instance, created when first needed, is released once the class has been executed.
+     */
+    public void execute(Consumer<GiwtClassTestDescriptor> consumer) {
+        execute(consumer, null);
+    }
+
+    /**
+     * Executes the test class, the listener (if any) being notified of the beforeAll and afterAll callbacks
+     * as the {@link TestCaseReport.TestReport.Phase#BEFORE BEFORE} and {@link TestCaseReport.TestReport.Phase#AFTER AFTER} phases.
+     */
+    public void execute(Consumer<GiwtClassTestDescriptor> consumer, TestCaseReport.TestReport.PhaseListener listener) {
+        try {
+            GiwtCallbacks callbacks = GiwtTestEngine.CONTEXT.getCallbacks(this.testClass);
+            timed(listener, TestCaseReport.TestReport.Phase.BEFORE, () -> callbacks.beforeAllCallback().beforeAll());
+            consumer.accept(this);
+            timed(listener, TestCaseReport.TestReport.Phase.AFTER, () -> callbacks.afterAllCallback().afterAll());
+        } finally {
+            GiwtTestEngine.CONTEXT.remove(this.testClass);
+        }
     }
 
     public boolean shouldBeReported() {
-        return this.configuration != null && !this.configuration.excludeFromReport().contains(this.testClass);
+        return GiwtTestEngine.CONTEXT.getConfiguration(this.testClass)
+                .map(configuration -> !configuration.excludeFromReport().contains(this.testClass))
+                .orElse(false);
+    }
+
+    private static void timed(TestCaseReport.TestReport.PhaseListener listener, TestCaseReport.TestReport.Phase phase, Runnable callbacks) {
+        if (listener == null) {
+            callbacks.run();
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            callbacks.run();
+        } finally {
+            listener.stepTimed(phase, start, System.nanoTime() - start);
+        }
     }
 
     private void addAllChildren() {
@@ -73,13 +106,24 @@ public class GiwtClassTestDescriptor extends AbstractTestDescriptor {
                 .forEach(testMethod -> {
                             var method = testMethod.method();
                             if (testMethod.isParameterized()) {
-                                addChild(
-                                        new GiwtParameterizedMethodTestDescriptor(method, getUniqueId(), GiwtTestEngine.CONTEXT.getParameters(this.testClass, method))
-                                );
+                                addChild(createParameterizedTest(method));
                             } else {
                                 addChild(new GiwtMethodTestDescriptor(Utils.getTestName(method), method, getUniqueId(), null));
                             }
                         }
                 );
     }
+
+    /**
+     * Only a static parameter source is called at discovery, its rows being known right away.
+     * Any other source needs the test (or configuration) instance, which is only created at execution time:
+     * its rows are then dynamic.
+     */
+    private GiwtParameterizedMethodTestDescriptor createParameterizedTest(Method method) {
+        Supplier<TestParameters<?>> parameters = () -> GiwtTestEngine.CONTEXT.getParameters(this.testClass, method);
+        if (ReflectionUtils.isStatic(GiwtTestEngine.CONTEXT.getParameterSource(this.testClass, method))) {
+            return new GiwtParameterizedMethodTestDescriptor(method, getUniqueId(), parameters.get(), parameters);
+        }
+        return new GiwtParameterizedMethodTestDescriptor(method, getUniqueId(), parameters);
+    }
 }
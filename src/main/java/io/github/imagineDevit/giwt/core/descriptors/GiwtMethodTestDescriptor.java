@@ -3,12 +3,13 @@ package io.github.imagineDevit.giwt.core.descriptors;
 import io.github.imagineDevit.giwt.core.ATestCase;
 import io.github.imagineDevit.giwt.core.GiwtTestEngine;
 import io.github.imagineDevit.giwt.core.TestParameters;
-import io.github.imagineDevit.giwt.core.annotations.Skipped;
+import io.github.imagineDevit.giwt.core.annotations.Benchmark;
 import io.github.imagineDevit.giwt.core.callbacks.GiwtCallbacks;
+import io.github.imagineDevit.giwt.core.context.ClassMetadata;
 import io.github.imagineDevit.giwt.core.report.TestCaseReport;
 import io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport;
+import io.github.imagineDevit.giwt.core.utils.MethodInvoker;
 import io.github.imagineDevit.giwt.core.utils.Utils;
-import org.junit.platform.commons.support.AnnotationSupport;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.MethodSource;
@@ -27,25 +28,32 @@ import java.util.function.Function;
  */
 public class GiwtMethodTestDescriptor extends AbstractTestDescriptor {
 
+    /**
+     * The type of the unique id segment of a test method (or of a parameterized test row), whose value is its name
+     */
+    public static final String SEGMENT_TYPE = "method";
+
     private final Method testMethod;
 
     private final TestParameters.Parameter params;
 
-    private final GiwtCallbacks callbacks;
+    private final MethodInvoker invoker;
 
     public GiwtMethodTestDescriptor(String name, Method testMethod, UniqueId uniqueId, TestParameters.Parameter params) {
+        this(name, MethodInvoker.of(testMethod), uniqueId, params);
+    }
+
+    public GiwtMethodTestDescriptor(String name, MethodInvoker invoker, UniqueId uniqueId, TestParameters.Parameter params) {
 
         super(
-                uniqueId.append("method", name),
+                uniqueId.append(SEGMENT_TYPE, name),
                 name,
-                MethodSource.from(testMethod)
+                MethodSource.from(invoker.getMethod())
         );
 
-        this.testMethod = testMethod;
+        this.testMethod = invoker.getMethod();
         this.params = params;
-
-        this.callbacks = GiwtTestEngine.CONTEXT.getCallbacks(this.testMethod.getDeclaringClass());
-
+        this.invoker = invoker;
     }
 
     @Override
@@ -61,13 +69,12 @@ public class GiwtMethodTestDescriptor extends AbstractTestDescriptor {
         return params;
     }
 
+    public MethodInvoker getInvoker() {
+        return invoker;
+    }
+
     public <TC extends ATestCase<?, ?, ?, ?>> TC getTestCase(TestCaseReport.TestReport report, Function<String, BiFunction<TestReport, TestParameters.Parameter, TC>> createTestCase, Function<TC, String> getName) {
-        String name;
-        if (params == null) {
-            name = Utils.getTestName(this.testMethod);
-        } else {
-            name = Utils.getTestName(this.testMethod);
-        }
+        String name = Utils.getTestName(this.testMethod);
 
         report.setStatus(TestReport.Status.SKIPPED);
 
@@ -78,21 +85,35 @@ public class GiwtMethodTestDescriptor extends AbstractTestDescriptor {
         return tc;
     }
 
+    /**
+     * @return the benchmark settings of the test, or an empty optional if it is not a benchmark
+     */
+    public Optional<Benchmark> getBenchmark() {
+        return Optional.ofNullable(this.testMethod.getAnnotation(Benchmark.class));
+    }
+
     public Optional<String> shouldBeSkipped() {
-        return AnnotationSupport.findAnnotation(this.testMethod, Skipped.class)
-                .or(() -> AnnotationSupport.findAnnotation(this.testMethod.getDeclaringClass(), Skipped.class))
-                .map(Skipped::reason);
+        return ClassMetadata.of(this.testMethod.getDeclaringClass()).skipReason(this.testMethod);
     }
 
     public Object getTestInstance() {
         return GiwtTestEngine.CONTEXT.getInstanceOf(this.testMethod.getDeclaringClass());
     }
 
-    public void execute(Consumer<GiwtMethodTestDescriptor> consumer, boolean allCallacksRan) {
-        if (!allCallacksRan) this.callbacks.beforeAllCallback().beforeAll();
-        this.callbacks.beforeEachCallback().beforeEach();
+    /**
+     * Executes the test between its callbacks, whose durations are added to the report
+     * as the {@link TestReport.Phase#BEFORE BEFORE} and {@link TestReport.Phase#AFTER AFTER} phases.
+     */
+    public void execute(Consumer<GiwtMethodTestDescriptor> consumer, boolean allCallacksRan, TestReport report) {
+        GiwtCallbacks callbacks = GiwtTestEngine.CONTEXT.getCallbacks(this.testMethod.getDeclaringClass());
+        report.timed(TestReport.Phase.BEFORE, () -> {
+            if (!allCallacksRan) callbacks.beforeAllCallback().beforeAll();
+            callbacks.beforeEachCallback().beforeEach();
+        });
         consumer.accept(this);
-        this.callbacks.afterEachCallback().afterEach();
-        if (!allCallacksRan) this.callbacks.afterAllCallback().afterAll();
+        report.timed(TestReport.Phase.AFTER, () -> {
+            callbacks.afterEachCallback().afterEach();
+            if (!allCallacksRan) callbacks.afterAllCallback().afterAll();
+        });
     }
 }
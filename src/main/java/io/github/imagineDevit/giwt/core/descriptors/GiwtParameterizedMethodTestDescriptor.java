@@ -2,30 +2,103 @@ package io.github.imagineDevit.giwt.core.descriptors;
 
 import io.github.imagineDevit.giwt.core.TestParameters;
 import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
+import io.github.imagineDevit.giwt.core.utils.MethodInvoker;
+import io.github.imagineDevit.giwt.core.utils.Utils;
+import org.junit.platform.commons.support.AnnotationSupport;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.MethodSource;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * A descriptor for a <strong>giwt</strong> parameterized test method
+ * <p>
+ * When the parameters are streamed, or when their source can only be called at execution time (see
+ * {@link #GiwtParameterizedMethodTestDescriptor(Method, UniqueId, Supplier)}), no child is created at discovery:
+ * each row is turned into a dynamic {@link GiwtMethodTestDescriptor} at execution time.
+ * </p>
  *
  * @author Henri Joel SEDJAME
  * @since 0.0.1
  */
 public class GiwtParameterizedMethodTestDescriptor extends AbstractTestDescriptor {
 
+    private final String pattern;
+
+    private final MethodInvoker invoker;
+
+    private final int parallelism;
+
+    private Supplier<? extends TestParameters<?>> dynamicParameters;
+
+    private Predicate<? super GiwtMethodTestDescriptor> rowFilter = row -> true;
+
     public GiwtParameterizedMethodTestDescriptor(Method testMethod, UniqueId uniqueId, List<? extends TestParameters.Parameter> parameters) {
+        this(testMethod, uniqueId);
+        parameters.forEach(this::addRow);
+    }
+
+    public GiwtParameterizedMethodTestDescriptor(Method testMethod, UniqueId uniqueId, TestParameters<?> parameters) {
+        this(testMethod, uniqueId, parameters, () -> {
+            throw new IllegalStateException("The streamed parameters of %s have already been consumed".formatted(testMethod.getName()));
+        });
+    }
+
+    /**
+     * Creates a parameterized test from the parameters resolved at discovery.
+     * Streamed parameters can only be consumed once: they are used by the first execution,
+     * the source being called again for each next execution.
+     *
+     * @param testMethod the parameterized test method
+     * @param uniqueId   the unique id of the test class
+     * @param parameters the parameters resolved at discovery
+     * @param source     the supplier calling the parameter source again
+     */
+    public GiwtParameterizedMethodTestDescriptor(Method testMethod, UniqueId uniqueId, TestParameters<?> parameters,
+                                                 Supplier<? extends TestParameters<?>> source) {
+        this(testMethod, uniqueId);
+        if (parameters.isStreamed()) {
+            AtomicReference<TestParameters<?>> discovered = new AtomicReference<>(parameters);
+            Objects.requireNonNull(source);
+            this.dynamicParameters = () -> Optional.<TestParameters<?>>ofNullable(discovered.getAndSet(null)).orElseGet(source);
+        } else {
+            parameters.getParameters().forEach(this::addRow);
+        }
+    }
+
+    /**
+     * Creates a parameterized test whose parameters are only resolved when it is executed,
+     * all its rows being dynamic.
+     *
+     * @param testMethod the parameterized test method
+     * @param uniqueId   the unique id of the test class
+     * @param parameters the supplier of the parameters, called on each execution
+     */
+    public GiwtParameterizedMethodTestDescriptor(Method testMethod, UniqueId uniqueId, Supplier<? extends TestParameters<?>> parameters) {
+        this(testMethod, uniqueId);
+        this.dynamicParameters = Objects.requireNonNull(parameters);
+    }
 
+    private GiwtParameterizedMethodTestDescriptor(Method testMethod, UniqueId uniqueId) {
         super(
-                uniqueId.append("method", testMethod.getName()),
+                uniqueId.append(GiwtMethodTestDescriptor.SEGMENT_TYPE, testMethod.getName()),
                 testMethod.getName(),
                 MethodSource.from(testMethod)
         );
 
-        addAllChildren(testMethod, parameters);
+        this.pattern = Utils.getTestName(testMethod);
+        this.invoker = MethodInvoker.of(testMethod);
+        this.parallelism = AnnotationSupport.findAnnotation(testMethod, ParameterizedTest.class)
+                .map(ParameterizedTest::parallelism)
+                .orElse(1);
     }
 
     @Override
@@ -33,10 +106,59 @@ public class GiwtParameterizedMethodTestDescriptor extends AbstractTestDescripto
         return Type.CONTAINER;
     }
 
-    private void addAllChildren(Method testMethod, List<? extends TestParameters.Parameter> parameters) {
-        parameters.forEach(param -> {
-            String name = param.formatName(testMethod.getAnnotation(ParameterizedTest.class).name());
-            addChild(new GiwtMethodTestDescriptor(name, testMethod, getUniqueId(), param));
+    @Override
+    public boolean mayRegisterTests() {
+        return hasDynamicRows();
+    }
+
+    /**
+     * @return the maximum number of rows executed at the same time
+     * @see ParameterizedTest#parallelism()
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return true if the rows are only known at execution time
+     */
+    public boolean hasDynamicRows() {
+        return dynamicParameters != null;
+    }
+
+    /**
+     * Only retains the rows matching the given filter.
+     * Rows known at discovery are removed right away, dynamic rows are skipped when they are pulled.
+     *
+     * @param filter the rows filter
+     */
+    public void retainRows(Predicate<? super GiwtMethodTestDescriptor> filter) {
+        List.copyOf(getChildren()).forEach(child -> {
+            if (!(child instanceof GiwtMethodTestDescriptor row) || !filter.test(row)) removeChild(child);
         });
+        this.rowFilter = filter;
+    }
+
+    /**
+     * Resolves the parameters, pulls the dynamic rows one at a time
+     * and hands a new (not yet attached) row descriptor to the consumer.
+     *
+     * @param consumer the row descriptor consumer
+     */
+    public void forEachDynamicRow(Consumer<GiwtMethodTestDescriptor> consumer) {
+        if (hasDynamicRows()) {
+            dynamicParameters.get().forEach(param -> {
+                GiwtMethodTestDescriptor row = createRow(param);
+                if (rowFilter.test(row)) consumer.accept(row);
+            });
+        }
+    }
+
+    private void addRow(TestParameters.Parameter param) {
+        addChild(createRow(param));
+    }
+
+    private GiwtMethodTestDescriptor createRow(TestParameters.Parameter param) {
+        return new GiwtMethodTestDescriptor(param.formatName(pattern), invoker, getUniqueId(), param);
     }
 }
@@ -1,6 +1,7 @@
 package io.github.imagineDevit.giwt.core.expectations;
 
 import io.github.imagineDevit.giwt.core.errors.ResultValueError;
+import io.github.imagineDevit.giwt.core.jfr.ExpectationEvent;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -44,16 +45,27 @@ public sealed interface Expectation<T> {
                 c.accept(v.name());
             }
         };
+
+        ExpectationEvent event = new ExpectationEvent();
+        event.begin();
+
         try {
             doPrint.accept(s -> System.out.printf("     %s %s", yellow(PLAY), italic(s)));
             verify(value);
             doPrint.accept(s -> System.out.println(green(PASSED)));
+            event.passed = true;
         } catch (Throwable e) {
             doPrint.accept(s -> System.out.printf("""
                     %s
                     
                     """, red(FAILED)));
             throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.currentTest();
+                event.expectation = name instanceof Name.Value v ? v.name() : getClass().getSimpleName();
+                event.commit();
+            }
         }
     }
 
@@ -81,6 +93,14 @@ public sealed interface Expectation<T> {
     sealed interface OnFailure extends Expectation<Throwable> permits ExpectedToFail {
     }
 
+    /**
+     * This interface represents an expectation on the performance of an action (such as the WHEN step of a test case).
+     * It extends the Expectation interface with the type parameter set to Runnable, the action being run by the expectation.
+     * It can only be implemented by the ExpectedToPerform interface.
+     */
+    sealed interface OnPerformance extends Expectation<Runnable> permits ExpectedToPerform {
+    }
+
     /**
      * This interface represents a successful expectation.
      * It extends the Expectation interface with a generic type parameter.
@@ -0,0 +1,234 @@
+package io.github.imagineDevit.giwt.core.expectations;
+
+import io.github.imagineDevit.giwt.core.errors.ExpectationError;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static io.github.imagineDevit.giwt.core.report.ResourceUsage.formatBytes;
+import static io.github.imagineDevit.giwt.core.report.TestCaseReport.formatDuration;
+
+/**
+ * This interface provides a set of static methods to create different types of performance expectations.
+ * Each performance expectation is a record that implements the ExpectedToPerform interface and overrides the verify method.
+ * The verify method runs an action (typically the WHEN step of a test case, its GIVEN state being already built)
+ * several times: first {@code warmup} times, whose measures are discarded, then {@code iterations} times.
+ * If the measures do not meet the expectation, an ExpectationError reporting the expected and measured figures is thrown.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@SuppressWarnings({"unused"})
+public sealed interface ExpectedToPerform extends Expectation.OnPerformance {
+
+    int DEFAULT_WARMUP = 5;
+
+    int DEFAULT_ITERATIONS = 100;
+
+    /**
+     * Creates a performance expectation that the action should run within the given duration.
+     *
+     * @param max the maximum duration of one run of the action
+     * @return a Within performance expectation
+     */
+    static Within within(Duration max) {
+        return new Within(max, DEFAULT_WARMUP);
+    }
+
+    /**
+     * Creates a performance expectation that the action should allocate at most the given number of bytes.
+     *
+     * @param maxBytes the maximum number of bytes allocated by one run of the action
+     * @return an AllocatingAtMost performance expectation
+     */
+    static AllocatingAtMost allocatingAtMost(long maxBytes) {
+        return new AllocatingAtMost(maxBytes, DEFAULT_WARMUP);
+    }
+
+    /**
+     * Creates a performance expectation that the median duration of the action should be within the given duration.
+     *
+     * @param max the maximum median duration
+     * @return a WithLatency performance expectation
+     */
+    static WithLatency p50Within(Duration max) {
+        return new WithLatency(50, max, DEFAULT_ITERATIONS, DEFAULT_WARMUP);
+    }
+
+    /**
+     * Creates a performance expectation that the 99th percentile of the durations of the action should be within the given duration.
+     *
+     * @param max the maximum 99th percentile
+     * @return a WithLatency performance expectation
+     */
+    static WithLatency p99Within(Duration max) {
+        return new WithLatency(99, max, DEFAULT_ITERATIONS, DEFAULT_WARMUP);
+    }
+
+    /**
+     * Runs the action {@code count} times, the measures being discarded.
+     */
+    private static void runWarmup(Runnable action, int count) {
+        for (int i = 0; i < count; i++) {
+            action.run();
+        }
+    }
+
+    private static void requireNonNegative(long value, String name) {
+        if (value < 0) throw new IllegalArgumentException("%s cannot be negative".formatted(name));
+    }
+
+    /**
+     * This record represents a performance expectation that one run of the action should last at most {@code max}.
+     *
+     * @param max    the maximum duration
+     * @param warmup the number of runs before the measured one
+     */
+    record Within(Duration max, int warmup) implements ExpectedToPerform {
+
+        public Within {
+            requireNonNegative(max.toNanos(), "max");
+            requireNonNegative(warmup, "warmup");
+        }
+
+        public Within withWarmup(int warmup) {
+            return new Within(max, warmup);
+        }
+
+        @Override
+        public Name name() {
+            return new Name.Value("Expected to perform within <" + formatDuration(max.toNanos()) + ">");
+        }
+
+        @Override
+        public void verify(Runnable action) {
+            runWarmup(action, warmup);
+
+            long start = System.nanoTime();
+            action.run();
+            long nanos = System.nanoTime() - start;
+
+            if (nanos > max.toNanos()) {
+                throw new ExpectationError(
+                        "Expected to perform within <" + formatDuration(max.toNanos()) + "> but took <" + formatDuration(nanos) + ">",
+                        "<= " + formatDuration(max.toNanos()),
+                        formatDuration(nanos)
+                );
+            }
+        }
+    }
+
+    /**
+     * This record represents a performance expectation that one run of the action should allocate at most {@code maxBytes}
+     * on the current thread.
+     * It requires a JVM measuring thread allocations ({@code com.sun.management.ThreadMXBean}): on any other JVM,
+     * the expectation fails.
+     *
+     * @param maxBytes the maximum number of allocated bytes
+     * @param warmup   the number of runs before the measured one
+     */
+    record AllocatingAtMost(long maxBytes, int warmup) implements ExpectedToPerform {
+
+        public AllocatingAtMost {
+            requireNonNegative(maxBytes, "maxBytes");
+            requireNonNegative(warmup, "warmup");
+        }
+
+        public AllocatingAtMost withWarmup(int warmup) {
+            return new AllocatingAtMost(maxBytes, warmup);
+        }
+
+        @Override
+        public Name name() {
+            return new Name.Value("Expected to allocate at most <" + formatBytes(maxBytes) + ">");
+        }
+
+        @Override
+        public void verify(Runnable action) {
+            if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                    || !threads.isThreadAllocatedMemorySupported()) {
+                throw new ExpectationError(
+                        "Expected to allocate at most <" + formatBytes(maxBytes) + "> but this JVM does not measure the memory allocated by threads",
+                        "<= " + formatBytes(maxBytes),
+                        "not measured"
+                );
+            }
+            if (!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+
+            runWarmup(action, warmup);
+
+            long start = threads.getCurrentThreadAllocatedBytes();
+            action.run();
+            long bytes = threads.getCurrentThreadAllocatedBytes() - start;
+
+            if (bytes > maxBytes) {
+                throw new ExpectationError(
+                        "Expected to allocate at most <" + formatBytes(maxBytes) + "> but allocated <" + formatBytes(bytes) + ">",
+                        "<= " + formatBytes(maxBytes),
+                        formatBytes(bytes)
+                );
+            }
+        }
+    }
+
+    /**
+     * This record represents a performance expectation that a percentile of the durations of {@code iterations} runs
+     * of the action should be at most {@code max}.
+     * The percentile is computed with the nearest-rank method.
+     *
+     * @param percentile the percentile, between 0 (excluded) and 100
+     * @param max        the maximum value of the percentile
+     * @param iterations the number of measured runs
+     * @param warmup     the number of runs before the measured ones
+     */
+    record WithLatency(double percentile, Duration max, int iterations, int warmup) implements ExpectedToPerform {
+
+        public WithLatency {
+            if (percentile <= 0 || percentile > 100) throw new IllegalArgumentException("percentile must be in ]0, 100]");
+            if (iterations < 1) throw new IllegalArgumentException("iterations must be at least 1");
+            requireNonNegative(max.toNanos(), "max");
+            requireNonNegative(warmup, "warmup");
+        }
+
+        public WithLatency withIterations(int iterations) {
+            return new WithLatency(percentile, max, iterations, warmup);
+        }
+
+        public WithLatency withWarmup(int warmup) {
+            return new WithLatency(percentile, max, iterations, warmup);
+        }
+
+        @Override
+        public Name name() {
+            return new Name.Value("Expected %s over %d runs to be within <%s>".formatted(label(), iterations, formatDuration(max.toNanos())));
+        }
+
+        @Override
+        public void verify(Runnable action) {
+            runWarmup(action, warmup);
+
+            long[] durations = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                action.run();
+                durations[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(durations);
+
+            long measured = durations[(int) Math.ceil(percentile / 100 * iterations) - 1];
+
+            if (measured > max.toNanos()) {
+                throw new ExpectationError(
+                        "Expected %s over %d runs to be within <%s> but was <%s>".formatted(label(), iterations, formatDuration(max.toNanos()), formatDuration(measured)),
+                        "<= " + formatDuration(max.toNanos()),
+                        formatDuration(measured)
+                );
+            }
+        }
+
+        private String label() {
+            return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+        }
+    }
+}
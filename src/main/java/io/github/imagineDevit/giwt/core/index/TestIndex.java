@@ -0,0 +1,126 @@
+package io.github.imagineDevit.giwt.core.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The compile-time index of the test methods of a classpath root.
+ * <p>
+ * The index is written by {@link TestIndexProcessor} to {@value #LOCATION}, one {@code className#methodName} entry per line,
+ * preceded by the name of each top-level class compiled with the processor, one per line.
+ * It allows the engine to load the test classes only, instead of loading (and reflecting over) every class of the classpath root.
+ * </p>
+ * <p>
+ * An index that does not {@link #covers(String) cover} every class of its classpath root is stale:
+ * some classes were compiled without the processor (e.g. by an IDE with annotation processing disabled).
+ * </p>
+ *
+ * @param testMethods     the names of the test methods by (binary) test class name
+ * @param compiledClasses the (binary) names of the top-level classes compiled with the processor
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public record TestIndex(Map<String, Set<String>> testMethods, Set<String> compiledClasses) {
+
+    public static final String LOCATION = "META-INF/giwt/test-index";
+
+    private static final char SEPARATOR = '#';
+
+    private static final char NESTED_CLASS_SEPARATOR = '$';
+
+    /**
+     * Creates an index only covering the test classes.
+     *
+     * @param testMethods the names of the test methods by (binary) test class name
+     */
+    public TestIndex(Map<String, Set<String>> testMethods) {
+        this(testMethods, testMethods.keySet().stream().map(TestIndex::topLevelClassName).collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    /**
+     * Reads the index of a classpath root.
+     *
+     * @param classpathRoot the classpath root
+     * @return the index, or an empty optional if the classpath root is not a directory or has no index
+     */
+    public static Optional<TestIndex> of(URI classpathRoot) {
+        if (!"file".equals(classpathRoot.getScheme())) return Optional.empty();
+
+        Path index = Path.of(classpathRoot).resolve(LOCATION);
+
+        if (!Files.isRegularFile(index)) return Optional.empty();
+
+        try (Reader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+            return Optional.of(read(reader));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static TestIndex read(Reader reader) throws IOException {
+        Map<String, Set<String>> testMethods = new TreeMap<>();
+        Set<String> compiledClasses = new TreeSet<>();
+
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            int separator = line.indexOf(SEPARATOR);
+            if (separator < 0) {
+                compiledClasses.add(line);
+            } else {
+                String className = line.substring(0, separator);
+                testMethods.computeIfAbsent(className, c -> new TreeSet<>()).add(line.substring(separator + 1));
+                compiledClasses.add(topLevelClassName(className));
+            }
+        }
+
+        return new TestIndex(testMethods, compiledClasses);
+    }
+
+    public void write(Writer writer) throws IOException {
+        for (String className : new TreeSet<>(compiledClasses)) {
+            writer.write(className + "\n");
+        }
+        for (Map.Entry<String, Set<String>> entry : testMethods.entrySet()) {
+            for (String method : entry.getValue()) {
+                writer.write(entry.getKey() + SEPARATOR + method + "\n");
+            }
+        }
+    }
+
+    /**
+     * @return the names of the indexed test classes
+     */
+    public Set<String> testClassNames() {
+        return testMethods.keySet();
+    }
+
+    /**
+     * @param className the binary name of a class of the classpath root
+     * @return true if the class (or its enclosing top-level class) was compiled with the processor
+     */
+    public boolean covers(String className) {
+        return compiledClasses.contains(topLevelClassName(className));
+    }
+
+    /**
+     * @param className the binary name of a class
+     * @return the binary name of its top-level class
+     */
+    public static String topLevelClassName(String className) {
+        int separator = className.indexOf(NESTED_CLASS_SEPARATOR);
+        return separator < 0 ? className : className.substring(0, separator);
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.imagineDevit.giwt.core.index;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * An annotation processor writing the {@link TestIndex} of the compiled test classes.
+ * <p>
+ * A class is indexed with the giwt test methods it declares or inherits, so that the concrete subclasses
+ * of an abstract test class are indexed too, even when they are compiled without it.
+ * Every compiled top-level class is recorded too, so that the engine can tell a stale index.
+ * Entries of an index left by a previous (incremental) compilation are kept,
+ * except for the classes compiled again, whose entries are replaced.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@SupportedAnnotationTypes("*")
+public class TestIndexProcessor extends AbstractProcessor {
+
+    private static final Set<String> TEST_ANNOTATIONS = Set.of(
+            "io.github.imagineDevit.giwt.core.annotations.Test",
+            "io.github.imagineDevit.giwt.core.annotations.Benchmark",
+            "io.github.imagineDevit.giwt.core.annotations.ParameterizedTest"
+    );
+
+    private final Map<String, Set<String>> testMethods = new TreeMap<>();
+
+    private final Set<String> compiledClasses = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!compiledClasses.isEmpty()) writeIndex();
+            return false;
+        }
+
+        ElementFilter.typesIn(roundEnv.getRootElements()).forEach(type -> {
+            compiledClasses.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            index(type);
+        });
+
+        return false;
+    }
+
+    /**
+     * Indexes a class (and its nested classes) if it declares or inherits test methods.
+     */
+    private void index(TypeElement type) {
+        Set<String> methods = new TreeSet<>();
+        collectTestMethods(type.asType(), methods);
+
+        if (!methods.isEmpty()) {
+            testMethods.put(processingEnv.getElementUtils().getBinaryName(type).toString(), methods);
+        }
+
+        ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::index);
+    }
+
+    private void collectTestMethods(TypeMirror type, Set<String> methods) {
+        if (!(type instanceof DeclaredType declaredType)) return;
+
+        ElementFilter.methodsIn(declaredType.asElement().getEnclosedElements()).stream()
+                .filter(TestIndexProcessor::isTestMethod)
+                .forEach(method -> methods.add(method.getSimpleName().toString()));
+
+        processingEnv.getTypeUtils().directSupertypes(type).forEach(supertype -> collectTestMethods(supertype, methods));
+    }
+
+    private static boolean isTestMethod(ExecutableElement method) {
+        return method.getAnnotationMirrors().stream()
+                .map(annotation -> ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(TEST_ANNOTATIONS::contains);
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+
+        Optional<TestIndex> previous = readPreviousIndex(filer);
+
+        // a classpath root without test classes only gets an index if it already had one
+        if (testMethods.isEmpty() && previous.isEmpty()) return;
+
+        Map<String, Set<String>> index = new TreeMap<>();
+        Set<String> classes = new TreeSet<>(compiledClasses);
+        previous.ifPresent(p -> {
+            p.testMethods().forEach((className, methods) -> {
+                if (!compiledClasses.contains(TestIndex.topLevelClassName(className))) index.put(className, methods);
+            });
+            classes.addAll(p.compiledClasses());
+        });
+        index.putAll(testMethods);
+
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", TestIndex.LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                new TestIndex(index, classes).write(writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write %s: %s".formatted(TestIndex.LOCATION, e.getMessage()));
+        }
+    }
+
+    private Optional<TestIndex> readPreviousIndex(Filer filer) {
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", TestIndex.LOCATION);
+            try (Reader reader = resource.openReader(true)) {
+                return Optional.of(TestIndex.read(reader));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no previous index
+            return Optional.empty();
+        }
+    }
+}
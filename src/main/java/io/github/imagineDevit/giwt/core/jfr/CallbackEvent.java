@@ -0,0 +1,20 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The invocation of a callback chain (test class callbacks and extensions).
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@Name("io.github.imagineDevit.giwt.Callback")
+@Label("Callback")
+@Description("Invocation of the beforeAll, beforeEach, afterEach or afterAll callbacks of a test class")
+public class CallbackEvent extends GiwtEvent {
+
+    @Label("Callback")
+    public String callback;
+}
@@ -0,0 +1,38 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import java.util.Optional;
+
+/**
+ * The test executed by the current thread, so that events recorded deep in the test (such as expectations)
+ * can be related to it.
+ *
+ * @param className  the test class name
+ * @param methodName the test method name
+ * @param rowName    the parameterized test row name (null if the test is not parameterized)
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public record CurrentTest(String className, String methodName, String rowName) {
+
+    private static final ThreadLocal<CurrentTest> CURRENT = new ThreadLocal<>();
+
+    public static Optional<CurrentTest> get() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Runs an action as the current test of the current thread.
+     *
+     * @param action the action
+     */
+    public void run(Runnable action) {
+        CurrentTest previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+}
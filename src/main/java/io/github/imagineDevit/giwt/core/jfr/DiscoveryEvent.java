@@ -0,0 +1,23 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The discovery (validation and descriptor creation) of a test class.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@Name("io.github.imagineDevit.giwt.Discovery")
+@Label("Test Class Discovery")
+@Description("Validation of a test class and creation of its descriptor")
+public class DiscoveryEvent extends GiwtEvent {
+
+    @Label("Tests")
+    public int testCount;
+
+    @Label("Cached")
+    public boolean cached;
+}
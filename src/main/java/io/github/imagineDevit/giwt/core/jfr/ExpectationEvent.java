@@ -0,0 +1,23 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The verification of an expectation.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@Name("io.github.imagineDevit.giwt.Expectation")
+@Label("Expectation")
+@Description("Verification of an expectation")
+public class ExpectationEvent extends GiwtEvent {
+
+    @Label("Expectation")
+    public String expectation;
+
+    @Label("Passed")
+    public boolean passed;
+}
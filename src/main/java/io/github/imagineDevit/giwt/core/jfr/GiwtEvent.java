@@ -0,0 +1,51 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base of the JDK Flight Recorder events of <strong>giwt</strong>, identifying the test they relate to.
+ * <p>
+ * Events follow the usual JFR pattern: they are created and {@link #begin() begun} before the recorded work,
+ * then {@link #commit() committed}. When no recording is running, committing is a no-op.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@Category("giwt")
+@StackTrace(false)
+public abstract class GiwtEvent extends Event {
+
+    @Label("Class")
+    String className;
+
+    @Label("Method")
+    String methodName;
+
+    @Label("Row")
+    String rowName;
+
+    /**
+     * Identifies the test the event relates to.
+     *
+     * @param className  the test class name
+     * @param methodName the test method name (may be null)
+     * @param rowName    the parameterized test row name (may be null)
+     */
+    public void test(String className, String methodName, String rowName) {
+        this.className = className;
+        this.methodName = methodName;
+        this.rowName = rowName;
+    }
+
+    /**
+     * Identifies the event with the {@link CurrentTest test executed by the current thread}, if any
+     * (otherwise, the event is left as it is).
+     */
+    public void currentTest() {
+        CurrentTest.get().ifPresent(test -> test(test.className(), test.methodName(), test.rowName()));
+    }
+}
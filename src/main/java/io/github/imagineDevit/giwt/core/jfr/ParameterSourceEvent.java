@@ -0,0 +1,23 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The invocation of the parameter source of a parameterized test.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@Name("io.github.imagineDevit.giwt.ParameterSource")
+@Label("Parameter Source")
+@Description("Invocation of the parameter source of a parameterized test")
+public class ParameterSourceEvent extends GiwtEvent {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Streamed")
+    public boolean streamed;
+}
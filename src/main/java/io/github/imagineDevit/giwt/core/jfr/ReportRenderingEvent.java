@@ -0,0 +1,20 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The rendering of (a part of) the report.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@Name("io.github.imagineDevit.giwt.ReportRendering")
+@Label("Report Rendering")
+@Description("Rendering of the report of a test class, or of the whole report")
+public class ReportRenderingEvent extends GiwtEvent {
+
+    @Label("Sink")
+    public String sink;
+}
@@ -0,0 +1,20 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The execution of a test (or of a parameterized test row), callbacks included.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+@Name("io.github.imagineDevit.giwt.TestExecution")
+@Label("Test Execution")
+@Description("Execution of a test, callbacks included")
+public class TestExecutionEvent extends GiwtEvent {
+
+    @Label("Status")
+    public String status;
+}
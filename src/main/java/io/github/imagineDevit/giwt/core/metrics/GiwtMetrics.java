@@ -0,0 +1,154 @@
+package io.github.imagineDevit.giwt.core.metrics;
+
+import io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport.Status;
+import io.github.imagineDevit.giwt.core.utils.EnvVars;
+import io.github.imagineDevit.giwt.core.utils.Utils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a run: discovery time, number of executed tests by status, tests per second
+ * and histogram of the test durations.
+ * <p>
+ * Counters are striped ({@link LongAdder}) so that tests executed concurrently do not contend on them.
+ * The metrics are handed to the {@link MetricsListener listeners} registered with {@link ServiceLoader}
+ * and, when {@link EnvVars#METRICS} is enabled, written at the end of the run in the Prometheus text format
+ * to the {@value #FILE} file of the giwt build directory.
+ * When neither is the case, metrics are not recorded at all.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public final class GiwtMetrics {
+
+    public static final String FILE = "metrics.prom";
+
+    private static final GiwtMetrics DISABLED = new GiwtMetrics(List.of(), null);
+
+    private final List<MetricsListener> listeners;
+
+    private final Path file;
+
+    private final Map<Status, LongAdder> statusCounts = new EnumMap<>(Status.class);
+
+    private final Histogram testDurations = new Histogram();
+
+    private volatile long discoveryNanos;
+
+    private volatile int classCount;
+
+    private volatile long testCount;
+
+    private volatile long runStart;
+
+    private volatile long runNanos;
+
+    private GiwtMetrics(List<MetricsListener> listeners, Path file) {
+        this.listeners = List.copyOf(listeners);
+        this.file = file;
+        Arrays.stream(Status.values()).forEach(status -> statusCounts.put(status, new LongAdder()));
+    }
+
+    /**
+     * Creates the metrics of a run, handed to the listeners registered with {@link ServiceLoader}
+     * and written to the giwt build directory when {@link EnvVars#METRICS} is enabled.
+     *
+     * @param configuration the configuration parameters of the discovery or execution request
+     * @return the metrics, or disabled metrics if there is neither listener nor file to write
+     */
+    public static GiwtMetrics open(ConfigurationParameters configuration) {
+        List<MetricsListener> listeners = new ArrayList<>();
+        ServiceLoader.load(MetricsListener.class, Thread.currentThread().getContextClassLoader()).forEach(listeners::add);
+
+        // no build directory: metrics are only handed to the listeners
+        Path file = EnvVars.isEnabled(configuration, EnvVars.METRICS) ? Utils.giwtFile(FILE).orElse(null) : null;
+
+        return create(listeners, file);
+    }
+
+    /**
+     * @param listeners the listeners of the metrics
+     * @param file      the file the metrics are written to at the end of the run (null to write no file)
+     * @return the metrics, or disabled metrics if there is neither listener nor file to write
+     */
+    public static GiwtMetrics create(List<MetricsListener> listeners, Path file) {
+        return listeners.isEmpty() && file == null ? DISABLED : new GiwtMetrics(listeners, file);
+    }
+
+    public static GiwtMetrics disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * Records the discovery of the tests.
+     *
+     * @param root  the root descriptor of the discovered tests
+     * @param nanos the time spent discovering them, in nanoseconds
+     */
+    public void discoveryFinished(TestDescriptor root, long nanos) {
+        if (!isEnabled()) return;
+
+        discoveryNanos = nanos;
+        classCount = root.getChildren().size();
+        testCount = root.getDescendants().stream().filter(TestDescriptor::isTest).count();
+
+        MetricsSnapshot snapshot = snapshot();
+        listeners.forEach(listener -> listener.discoveryFinished(snapshot));
+    }
+
+    public void runStarted() {
+        if (!isEnabled()) return;
+
+        runStart = System.nanoTime();
+    }
+
+    /**
+     * Records an executed test.
+     *
+     * @param descriptor the descriptor of the test
+     * @param status     the status of the test (null, when its callbacks failed before it ran, is counted as a failure)
+     * @param nanos      the duration of the test, callbacks included, in nanoseconds
+     */
+    public void testFinished(TestDescriptor descriptor, Status status, long nanos) {
+        if (!isEnabled()) return;
+
+        Status actualStatus = status == null ? Status.FAILURE : status;
+        statusCounts.get(actualStatus).increment();
+        testDurations.record(nanos);
+
+        listeners.forEach(listener -> listener.testFinished(descriptor, actualStatus, nanos));
+    }
+
+    /**
+     * Records the end of the run, writes the metrics file (if any) and notifies the listeners.
+     */
+    public void runFinished() {
+        if (!isEnabled()) return;
+
+        runNanos = System.nanoTime() - runStart;
+
+        MetricsSnapshot snapshot = snapshot();
+
+        if (file != null) Utils.writeAtomically(file, writer -> PrometheusText.write(snapshot, writer));
+
+        listeners.forEach(listener -> listener.runFinished(snapshot));
+    }
+
+    /**
+     * @return the current metrics of the run
+     */
+    public MetricsSnapshot snapshot() {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return new MetricsSnapshot(discoveryNanos, classCount, testCount, runNanos, counts, testDurations.snapshot());
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.imagineDevit.giwt.core.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations with fixed buckets, which can be updated concurrently without contention.
+ * <p>
+ * Each bucket counts the durations lower than or equal to its upper bound (and greater than the bound of the previous bucket),
+ * the last bucket counting the durations greater than every bound.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public final class Histogram {
+
+    /**
+     * The default upper bounds of the buckets, from 1 millisecond to 1 minute.
+     */
+    public static final long[] DEFAULT_BOUNDS = Arrays.stream(new long[]{1, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000})
+            .map(TimeUnit.MILLISECONDS::toNanos)
+            .toArray();
+
+    private final long[] bounds;
+
+    private final LongAdder[] counts;
+
+    private final LongAdder sumNanos = new LongAdder();
+
+    public Histogram() {
+        this(DEFAULT_BOUNDS);
+    }
+
+    /**
+     * @param bounds the upper bounds of the buckets in nanoseconds, in increasing order
+     */
+    public Histogram(long[] bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) throw new IllegalArgumentException("Bucket bounds must be increasing");
+        }
+        this.bounds = bounds.clone();
+        this.counts = new LongAdder[bounds.length + 1];
+        Arrays.setAll(counts, i -> new LongAdder());
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration, in nanoseconds
+     */
+    public void record(long nanos) {
+        int index = Arrays.binarySearch(bounds, nanos);
+        counts[index >= 0 ? index : -index - 1].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * @return the current state of the histogram
+     */
+    public Snapshot snapshot() {
+        long[] values = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            values[i] = counts[i].sum();
+        }
+        return new Snapshot(bounds.clone(), values, sumNanos.sum());
+    }
+
+    /**
+     * The state of a histogram at a given time.
+     *
+     * @param bounds   the upper bounds of the buckets in nanoseconds (the last bucket being unbounded)
+     * @param counts   the number of durations of each bucket (one more than the number of bounds)
+     * @param sumNanos the sum of the recorded durations in nanoseconds
+     */
+    public record Snapshot(long[] bounds, long[] counts, long sumNanos) {
+
+        /**
+         * @return the number of recorded durations
+         */
+        public long count() {
+            return Arrays.stream(counts).sum();
+        }
+
+        /**
+         * @param bucket the index of a bucket
+         * @return the number of recorded durations lower than or equal to the upper bound of the bucket
+         */
+        public long cumulativeCount(int bucket) {
+            long count = 0;
+            for (int i = 0; i <= bucket; i++) {
+                count += counts[i];
+            }
+            return count;
+        }
+
+        /**
+         * Estimates a percentile as the upper bound of the bucket it falls in.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the estimated percentile in nanoseconds ({@link Long#MAX_VALUE} if it falls in the unbounded bucket,
+         * 0 if no duration has been recorded)
+         */
+        public long percentile(double percentile) {
+            long count = count();
+            if (count == 0) return 0;
+
+            long rank = (long) Math.ceil(percentile / 100 * count);
+            long seen = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return bounds[i];
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
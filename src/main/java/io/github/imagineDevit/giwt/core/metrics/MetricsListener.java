@@ -0,0 +1,46 @@
+package io.github.imagineDevit.giwt.core.metrics;
+
+import io.github.imagineDevit.giwt.core.report.TestCaseReport;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * A listener of the metrics of a run.
+ * <p>
+ * Listeners are loaded with {@link java.util.ServiceLoader}: an implementation is registered by listing its fully qualified name
+ * in a {@code META-INF/services/io.github.imagineDevit.giwt.core.metrics.MetricsListener} file.
+ * When tests are executed concurrently, {@link #testFinished(TestDescriptor, TestCaseReport.TestReport.Status, long)}
+ * is called from the worker threads, so implementations must be thread safe.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see GiwtMetrics
+ * @since 0.1.4
+ */
+public interface MetricsListener {
+
+    /**
+     * Called once the tests have been discovered.
+     *
+     * @param snapshot the metrics of the run, of which only the discovery metrics are known
+     */
+    default void discoveryFinished(MetricsSnapshot snapshot) {
+    }
+
+    /**
+     * Called each time a test has been executed.
+     *
+     * @param descriptor the descriptor of the test
+     * @param status     the status of the test
+     * @param nanos      the duration of the test, callbacks included, in nanoseconds
+     */
+    default void testFinished(TestDescriptor descriptor, TestCaseReport.TestReport.Status status, long nanos) {
+    }
+
+    /**
+     * Called once every test has been executed.
+     *
+     * @param snapshot the metrics of the run
+     */
+    default void runFinished(MetricsSnapshot snapshot) {
+    }
+}
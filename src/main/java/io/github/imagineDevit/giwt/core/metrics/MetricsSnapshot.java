@@ -0,0 +1,47 @@
+package io.github.imagineDevit.giwt.core.metrics;
+
+import io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport.Status;
+
+import java.util.Map;
+
+/**
+ * The metrics of a run at a given time.
+ *
+ * @param discoveryNanos the time spent discovering the tests, in nanoseconds
+ * @param classCount     the number of discovered test classes
+ * @param testCount      the number of discovered tests (rows of streamed parameterized tests excluded)
+ * @param runNanos       the time spent executing the tests, in nanoseconds
+ * @param statusCounts   the number of executed tests by status
+ * @param testDurations  the histogram of the durations of the executed tests
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public record MetricsSnapshot(long discoveryNanos, int classCount, long testCount, long runNanos,
+                              Map<Status, Long> statusCounts, Histogram.Snapshot testDurations) {
+
+    public MetricsSnapshot {
+        statusCounts = Map.copyOf(statusCounts);
+    }
+
+    /**
+     * @return the number of executed tests
+     */
+    public long executedCount() {
+        return statusCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @param status a test status
+     * @return the number of executed tests with the given status
+     */
+    public long count(Status status) {
+        return statusCounts.getOrDefault(status, 0L);
+    }
+
+    /**
+     * @return the number of tests executed per second (0 before the run)
+     */
+    public double testsPerSecond() {
+        return runNanos <= 0 ? 0 : executedCount() * 1e9 / runNanos;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.imagineDevit.giwt.core.metrics;
+
+import io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport.Status;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Writes the metrics of a run in the Prometheus text exposition format,
+ * as read by the textfile collector of the node exporter.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+final class PrometheusText {
+
+    private PrometheusText() {
+    }
+
+    static void write(MetricsSnapshot snapshot, Writer writer) throws IOException {
+        metric(writer, "giwt_discovery_seconds", "gauge", "Time spent discovering the tests");
+        sample(writer, "giwt_discovery_seconds", "", seconds(snapshot.discoveryNanos()));
+
+        metric(writer, "giwt_discovered_classes", "gauge", "Number of discovered test classes");
+        sample(writer, "giwt_discovered_classes", "", Integer.toString(snapshot.classCount()));
+
+        metric(writer, "giwt_discovered_tests", "gauge", "Number of discovered tests");
+        sample(writer, "giwt_discovered_tests", "", Long.toString(snapshot.testCount()));
+
+        metric(writer, "giwt_run_seconds", "gauge", "Time spent executing the tests");
+        sample(writer, "giwt_run_seconds", "", seconds(snapshot.runNanos()));
+
+        metric(writer, "giwt_tests_per_second", "gauge", "Number of tests executed per second");
+        sample(writer, "giwt_tests_per_second", "", format(snapshot.testsPerSecond()));
+
+        metric(writer, "giwt_tests_total", "counter", "Number of executed tests by status");
+        for (Status status : Status.values()) {
+            sample(writer, "giwt_tests_total", "{status=\"%s\"}".formatted(status.name().toLowerCase(Locale.ROOT)), Long.toString(snapshot.count(status)));
+        }
+
+        Histogram.Snapshot durations = snapshot.testDurations();
+        metric(writer, "giwt_test_duration_seconds", "histogram", "Durations of the executed tests");
+        for (int i = 0; i < durations.bounds().length; i++) {
+            sample(writer, "giwt_test_duration_seconds_bucket", "{le=\"%s\"}".formatted(seconds(durations.bounds()[i])), Long.toString(durations.cumulativeCount(i)));
+        }
+        sample(writer, "giwt_test_duration_seconds_bucket", "{le=\"+Inf\"}", Long.toString(durations.count()));
+        sample(writer, "giwt_test_duration_seconds_sum", "", seconds(durations.sumNanos()));
+        sample(writer, "giwt_test_duration_seconds_count", "", Long.toString(durations.count()));
+    }
+
+    private static void metric(Writer writer, String name, String type, String help) throws IOException {
+        writer.write("# HELP %s %s\n".formatted(name, help));
+        writer.write("# TYPE %s %s\n".formatted(name, type));
+    }
+
+    private static void sample(Writer writer, String name, String labels, String value) throws IOException {
+        writer.write(name + labels + " " + value + "\n");
+    }
+
+    private static String seconds(long nanos) {
+        return format(nanos / 1e9);
+    }
+
+    private static String format(double value) {
+        return Double.toString(value);
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of a benchmarked WHEN step, all durations being those of a single invocation.
+ * <p>
+ * Each measured iteration gives one duration, the mean duration of the invocations of its batch:
+ * the minimum, the percentiles and the maximum are those of these per-iteration means, not of single invocations.
+ * Percentiles are nearest-rank ones, so that with fewer than 100 iterations the 99th percentile is the maximum
+ * (and with fewer than 10 iterations, the 90th percentile too).
+ * </p>
+ *
+ * @param iterations the number of measured iterations
+ * @param batchSize  the number of invocations per iteration
+ * @param meanNanos  the mean duration, in nanoseconds
+ * @param errorNanos the half-width of the 99.9% confidence interval of the mean (from the Student's t-distribution
+ *                   with {@code iterations - 1} degrees of freedom), in nanoseconds
+ * @param minNanos   the shortest iteration duration, in nanoseconds
+ * @param p50Nanos   the median of the iteration durations, in nanoseconds
+ * @param p90Nanos   the 90th percentile of the iteration durations, in nanoseconds
+ * @param p99Nanos   the 99th percentile of the iteration durations, in nanoseconds
+ * @param maxNanos   the longest iteration duration, in nanoseconds
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public record BenchmarkResult(int iterations, int batchSize, double meanNanos, double errorNanos, long minNanos,
+                              long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+
+    // upper quantile of a two-sided 99.9% confidence interval
+    private static final double CONFIDENCE_QUANTILE = 0.9995;
+
+    /**
+     * Computes the result of a benchmark from its measures.
+     *
+     * @param iterationNanos the duration of each measured iteration, in nanoseconds
+     * @param batchSize      the number of invocations per iteration
+     * @return the benchmark result
+     */
+    public static BenchmarkResult of(long[] iterationNanos, int batchSize) {
+        if (iterationNanos.length == 0) throw new IllegalArgumentException("A benchmark needs at least one iteration");
+
+        long[] sorted = Arrays.stream(iterationNanos).map(nanos -> nanos / batchSize).sorted().toArray();
+        int n = sorted.length;
+
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        double error = 0;
+        if (n > 1) {
+            double variance = Arrays.stream(sorted).mapToDouble(nanos -> (nanos - mean) * (nanos - mean)).sum() / (n - 1);
+            error = StudentT.quantile(CONFIDENCE_QUANTILE, n - 1) * Math.sqrt(variance / n);
+        }
+
+        return new BenchmarkResult(n, batchSize, mean, error, sorted[0], percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), sorted[n - 1]);
+    }
+
+    /**
+     * @return the formatted figures, in display order
+     */
+    List<Map<String, String>> toList() {
+        return List.of(
+                Map.of("name", "mean", "value", "%s ± %s".formatted(TestCaseReport.formatDuration(Math.round(meanNanos)), TestCaseReport.formatDuration(Math.round(errorNanos)))),
+                Map.of("name", "min", "value", TestCaseReport.formatDuration(minNanos)),
+                Map.of("name", "p50", "value", TestCaseReport.formatDuration(p50Nanos)),
+                Map.of("name", "p90", "value", TestCaseReport.formatDuration(p90Nanos)),
+                Map.of("name", "p99", "value", TestCaseReport.formatDuration(p99Nanos)),
+                Map.of("name", "max", "value", TestCaseReport.formatDuration(maxNanos)),
+                Map.of("name", "iterations", "value", "%d x %d".formatted(iterations, batchSize))
+        );
+    }
+
+    /**
+     * @return the raw figures, keyed by the names of the record components
+     */
+    Map<String, Long> toRawMap() {
+        return Map.of(
+                "iterations", (long) iterations,
+                "batchSize", (long) batchSize,
+                "meanNanos", Math.round(meanNanos),
+                "errorNanos", Math.round(errorNanos),
+                "minNanos", minNanos,
+                "p50Nanos", p50Nanos,
+                "p90Nanos", p90Nanos,
+                "p99Nanos", p99Nanos,
+                "maxNanos", maxNanos
+        );
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[(int) Math.ceil(percentile / 100.0 * sorted.length) - 1];
+    }
+}
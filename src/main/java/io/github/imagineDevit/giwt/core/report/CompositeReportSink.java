@@ -0,0 +1,40 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A sink writing class reports to several sinks.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+class CompositeReportSink implements ReportSink {
+
+    private final List<ReportSink> sinks;
+
+    CompositeReportSink(List<ReportSink> sinks) {
+        this.sinks = List.copyOf(sinks);
+    }
+
+    @Override
+    public void write(TestCaseReport.ClassReport classReport) {
+        sinks.forEach(sink -> sink.write(classReport));
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException error = null;
+
+        for (ReportSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                if (error == null) error = e;
+                else error.addSuppressed(e);
+            }
+        }
+
+        if (error != null) throw error;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import java.io.IOException;
+
+/**
+ * A sink collecting the class reports, then rendering the whole HTML report once the run is over.
+ * <p>
+ * Only the classes with a report (see {@link io.github.imagineDevit.giwt.core.descriptors.GiwtClassTestDescriptor#shouldBeReported()}) are collected:
+ * the report is rendered as soon as one of them has been executed, whatever the number of test classes of the run.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see StreamingReportWriter
+ * @since 0.1.4
+ */
+class HtmlReportSink implements ReportSink {
+
+    private final TestCaseReport report = new TestCaseReport();
+
+    @Override
+    public void write(TestCaseReport.ClassReport classReport) {
+        TestCaseReport.ClassReport collected = report.getOrCreateClassReport(classReport.getName());
+        if (collected != classReport) classReport.getTestReports().forEach(collected::addTestReport);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (report.getClassReports().isEmpty()) return;
+
+        try {
+            new ReportProcessor().process(report);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}
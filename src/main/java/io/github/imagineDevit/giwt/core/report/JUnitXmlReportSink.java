@@ -0,0 +1,129 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * A sink writing the JUnit XML format understood by CI servers: one {@code testsuite} per class,
+ * one {@code testcase} per test, all of them within a single {@code testsuites} root element.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+class JUnitXmlReportSink implements ReportSink {
+
+    static final String REPORT_FILE = "TEST-giwt.xml";
+
+    private final Writer writer;
+
+    private final XMLStreamWriter xml;
+
+    JUnitXmlReportSink(File file) throws IOException {
+        this.writer = ReportProcessor.newWriter(file);
+        try {
+            this.xml = XMLOutputFactory.newFactory().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("testsuites");
+        } catch (XMLStreamException e) {
+            writer.close();
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void write(TestCaseReport.ClassReport classReport) {
+        try {
+            xml.writeStartElement("testsuite");
+            xml.writeAttribute("name", classReport.getName());
+            xml.writeAttribute("tests", String.valueOf(classReport.getTotalCount()));
+            xml.writeAttribute("failures", String.valueOf(classReport.getFailureCount()));
+            xml.writeAttribute("errors", "0");
+            xml.writeAttribute("skipped", String.valueOf(classReport.getSkippedCount()));
+            xml.writeAttribute("time", seconds(classReport.getTestReports().stream().mapToLong(TestCaseReport.TestReport::getDurationNanos).sum()));
+
+            Optional<ResourceUsage> usage = classReport.getResourceUsage();
+            if (usage.isPresent()) writeProperties(usage.get().toRawMap());
+
+            for (TestCaseReport.TestReport testReport : classReport.getTestReports()) {
+                writeTest(classReport.getName(), testReport);
+            }
+
+            xml.writeEndElement();
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to write the JUnit XML report of %s".formatted(classReport.getName()), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void writeTest(String className, TestCaseReport.TestReport testReport) throws XMLStreamException {
+        xml.writeStartElement("testcase");
+        xml.writeAttribute("classname", className);
+        xml.writeAttribute("name", String.valueOf(testReport.getName()));
+        xml.writeAttribute("time", seconds(testReport.getDurationNanos()));
+
+        Map<String, Long> properties = new TreeMap<>();
+        if (testReport.getResourceUsage() != null) properties.putAll(testReport.getResourceUsage().toRawMap());
+        if (testReport.getBenchmarkResult() != null) {
+            testReport.getBenchmarkResult().toRawMap().forEach((name, value) -> properties.put("benchmark." + name, value));
+        }
+        if (!properties.isEmpty()) writeProperties(properties);
+
+        if (testReport.getStatus() == TestCaseReport.TestReport.Status.FAILURE) {
+            xml.writeStartElement("failure");
+            if (testReport.getFailureReason() != null) xml.writeAttribute("message", ReportText.plain(testReport.getFailureReason()));
+            xml.writeCharacters(testReport.getStacktraces().stream().map(ReportText::plain).collect(Collectors.joining("\n")));
+            xml.writeEndElement();
+        } else if (testReport.getStatus() == TestCaseReport.TestReport.Status.SKIPPED) {
+            xml.writeEmptyElement("skipped");
+        }
+
+        if (!testReport.getDescriptionItems().isEmpty()) {
+            xml.writeStartElement("system-out");
+            xml.writeCharacters(testReport.getDescriptionItems().stream()
+                    .map(item -> "%s %s".formatted(ReportText.plain(item.prefix()), ReportText.plain(item.label())))
+                    .collect(Collectors.joining("\n")));
+            xml.writeEndElement();
+        }
+
+        xml.writeEndElement();
+    }
+
+    /**
+     * Writes figures (of a resource usage or a benchmark result) as {@code giwt.*} properties.
+     */
+    private void writeProperties(Map<String, Long> figures) throws XMLStreamException {
+        xml.writeStartElement("properties");
+        for (Map.Entry<String, Long> figure : new TreeMap<>(figures).entrySet()) {
+            xml.writeEmptyElement("property");
+            xml.writeAttribute("name", "giwt." + figure.getKey());
+            xml.writeAttribute("value", String.valueOf(figure.getValue()));
+        }
+        xml.writeEndElement();
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e9);
+    }
+}
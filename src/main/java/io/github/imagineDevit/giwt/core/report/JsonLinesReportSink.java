@@ -0,0 +1,103 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * A sink writing one JSON object per test, one test per line.
+ *
+ * <pre>{@code
+ * {"class":"a.b.MyTest","name":"my test","status":"failed","failureReason":"...","steps":[{"prefix":"GIVEN","label":"..."}],"stacktrace":["..."]}
+ * }</pre>
+ * <p>
+ * When the resources used by the tests are measured, each line also has a {@code "resources"} object
+ * of the figures of its {@link ResourceUsage}, and the line of a benchmark has a {@code "benchmark"} object
+ * of the figures of its {@link BenchmarkResult}.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+class JsonLinesReportSink implements ReportSink {
+
+    static final String REPORT_FILE = "report.jsonl";
+
+    private final Writer writer;
+
+    JsonLinesReportSink(File file) throws IOException {
+        this.writer = ReportProcessor.newWriter(file);
+    }
+
+    @Override
+    public synchronized void write(TestCaseReport.ClassReport classReport) {
+        try {
+            for (TestCaseReport.TestReport testReport : classReport.getTestReports()) {
+                writeTest(classReport.getName(), testReport);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeTest(String className, TestCaseReport.TestReport testReport) throws IOException {
+        writer.write("{\"class\":");
+        writeString(className);
+        writer.write(",\"name\":");
+        writeString(testReport.getName());
+        writer.write(",\"status\":");
+        writeString(testReport.getStatus() == null ? null : testReport.getStatus().label);
+        writer.write(",\"failureReason\":");
+        writeString(ReportText.plain(testReport.getFailureReason()));
+
+        writer.write(",\"steps\":[");
+        List<TestCaseReport.TestReport.DescriptionItem> items = testReport.getDescriptionItems();
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write("{\"prefix\":");
+            writeString(ReportText.plain(items.get(i).prefix()));
+            writer.write(",\"label\":");
+            writeString(ReportText.plain(items.get(i).label()));
+            writer.write('}');
+        }
+
+        writer.write("],\"stacktrace\":[");
+        List<String> traces = testReport.getStacktraces();
+        for (int i = 0; i < traces.size(); i++) {
+            if (i > 0) writer.write(',');
+            writeString(ReportText.plain(traces.get(i)));
+        }
+        writer.write(']');
+
+        ResourceUsage usage = testReport.getResourceUsage();
+        if (usage != null) writeFigures("resources", usage.toRawMap());
+
+        BenchmarkResult benchmark = testReport.getBenchmarkResult();
+        if (benchmark != null) writeFigures("benchmark", benchmark.toRawMap());
+
+        writer.write("}\n");
+    }
+
+    private void writeFigures(String name, Map<String, Long> figures) throws IOException {
+        writer.write(",\"%s\":{".formatted(name));
+        writer.write(new TreeMap<>(figures).entrySet().stream()
+                .map(e -> "\"%s\":%d".formatted(e.getKey(), e.getValue()))
+                .collect(Collectors.joining(",")));
+        writer.write('}');
+    }
+
+    private void writeString(String value) throws IOException {
+        writer.append(ReportText.appendJsonString(new StringBuilder(), value));
+    }
+}
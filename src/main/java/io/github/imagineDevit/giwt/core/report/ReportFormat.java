@@ -0,0 +1,72 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import io.github.imagineDevit.giwt.core.utils.EnvVars;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The supported report formats, selected with {@link EnvVars#REPORT_FORMATS}.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public enum ReportFormat {
+
+    /**
+     * The HTML report ({@code report.html}), written at the end of the run
+     * or incrementally when {@link EnvVars#REPORT_STREAMING} is enabled
+     */
+    HTML("html") {
+        @Override
+        ReportSink open(ConfigurationParameters configuration) throws IOException {
+            return EnvVars.isEnabled(configuration, EnvVars.REPORT_STREAMING)
+                    ? new ReportProcessor().stream()
+                    : new HtmlReportSink();
+        }
+    },
+
+    /**
+     * One JSON object per test ({@code report.jsonl})
+     */
+    JSON_LINES("jsonl") {
+        @Override
+        ReportSink open(ConfigurationParameters configuration) throws IOException {
+            return new JsonLinesReportSink(ReportProcessor.reportFile(JsonLinesReportSink.REPORT_FILE));
+        }
+    },
+
+    /**
+     * The JUnit XML format understood by CI servers ({@code TEST-giwt.xml})
+     */
+    JUNIT_XML("junit-xml") {
+        @Override
+        ReportSink open(ConfigurationParameters configuration) throws IOException {
+            return new JUnitXmlReportSink(ReportProcessor.reportFile(JUnitXmlReportSink.REPORT_FILE));
+        }
+    };
+
+    private final String key;
+
+    ReportFormat(String key) {
+        this.key = key;
+    }
+
+    public static ReportFormat of(String key) {
+        return Arrays.stream(values())
+                .filter(f -> f.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown report format '%s' (expected one of %s)".formatted(
+                        key.trim(),
+                        Arrays.stream(values()).map(f -> f.key).collect(Collectors.joining(", "))
+                )));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    abstract ReportSink open(ConfigurationParameters configuration) throws IOException;
+}
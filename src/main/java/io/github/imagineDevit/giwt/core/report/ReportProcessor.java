@@ -2,97 +2,92 @@ package io.github.imagineDevit.giwt.core.report;
 
 import freemarker.template.Configuration;
 import freemarker.template.Template;
-import io.github.imagineDevit.giwt.core.utils.EnvVars;
+import io.github.imagineDevit.giwt.core.jfr.ReportRenderingEvent;
+import io.github.imagineDevit.giwt.core.utils.Utils;
 
-import java.io.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Map;
-import java.util.Objects;
-
-import static io.github.imagineDevit.giwt.core.utils.TextUtils.blue;
-import static io.github.imagineDevit.giwt.core.utils.TextUtils.italic;
 
 /**
  * This class is responsible for processing the report template and generating the report.
  * It uses the FreeMarker library to process the template and generate the report.
  * The report is generated in the target/giwtunit directory.
- * The report is generated in HTML format.
+ * The report is generated in HTML format, either at once ({@link #process(TestCaseReport)})
+ * or incrementally, one class at a time ({@link #stream()}).
  *
  * @author Henri Joel SEDJAME
  * @since 0.0.1
  */
 public class ReportProcessor {
 
-    public static final String TARGET = "target";
-    public static final String BUILD = "build";
-    public static final String GIWT = "giwt";
-    private final Template template;
+    public static final String TARGET = Utils.TARGET;
+    public static final String BUILD = Utils.BUILD;
+    public static final String GIWT = Utils.GIWT;
+    public static final String REPORT_FILE = "report.html";
 
-    public ReportProcessor() throws IOException {
-        Configuration configuration = new Configuration(Configuration.VERSION_2_3_31);
+    private final Configuration configuration;
 
-        File tempDirectory = new File(System.getProperty("java.io.tmpdir"));
-        File file = new File(tempDirectory.getPath() + "/report.ftl");
+    public ReportProcessor() {
+        this.configuration = new Configuration(Configuration.VERSION_2_3_31);
+        this.configuration.setClassForTemplateLoading(ReportProcessor.class, "/");
+        this.configuration.setDefaultEncoding("UTF-8");
+    }
 
-        InputStream source = Objects.requireNonNull(ReportProcessor.class.getClassLoader().getResourceAsStream("report.ftl"));
 
-        try (var target = new FileOutputStream(file)) {
-            target.write(source.readAllBytes());
-        }
+    public void process(TestCaseReport testCaseReport) throws Exception {
+        ReportRenderingEvent event = new ReportRenderingEvent();
+        event.begin();
 
-        configuration.setDirectoryForTemplateLoading(tempDirectory);
+        var dataModel = Map.of("report", testCaseReport.toMap());
 
-        configuration.setDefaultEncoding("UTF-8");
+        File file = reportFile();
 
-        this.template = configuration.getTemplate("report.ftl");
-    }
+        try (Writer writer = newWriter(file)) {
+            template("report.ftl").process(dataModel, writer);
+        }
 
+        if (event.shouldCommit()) {
+            event.sink = getClass().getSimpleName();
+            event.commit();
+        }
 
-    public void process(TestCaseReport testCaseReport) throws Exception {
+        printReportLocation(file);
+    }
 
-        var dataModel = Map.of("report", testCaseReport.toMap());
+    /**
+     * Opens a report written incrementally, one class at a time.
+     *
+     * @return the streaming report writer
+     * @throws IOException if the report file cannot be created
+     * @see StreamingReportWriter
+     */
+    public StreamingReportWriter stream() throws IOException {
+        return new StreamingReportWriter(this, reportFile());
+    }
 
-        var target = createGiwtDir();
+    Template template(String name) throws IOException {
+        return configuration.getTemplate(name);
+    }
 
-        File file = new File("%s/report.html".formatted(target));
-        template.process(dataModel, new FileWriter(file));
+    static Writer newWriter(File file) throws IOException {
+        return Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+    }
 
+    static void printReportLocation(File file) {
         System.out.println("------------------------------------------------------------------");
         System.out.println("Report generated: " + file.getAbsolutePath());
         System.out.println("------------------------------------------------------------------");
     }
 
-    private String createGiwtDir() throws IOException {
-        File target = new File(TARGET);
-        File build = new File(BUILD);
-        Path giwt;
-        String result;
-
-        if (target.exists() && target.isDirectory()) {
-            giwt = new File(target, GIWT).toPath();
-            result = TARGET + "/" + GIWT;
-        } else if (build.exists() && build.isDirectory()) {
-            giwt = new File(build, GIWT).toPath();
-            result = BUILD + "/" + GIWT;
-        } else {
-            String buildDir = System.getenv(EnvVars.BUILD_DIR);
-            if (buildDir != null) {
-                giwt = new File(buildDir.trim(), GIWT).toPath();
-                result = buildDir.trim() + "/" + GIWT;
-            } else {
-                throw new IOException("""
-                        Failed to generate giwt report directory.
-                        It seems that the target or build directory does not exist.
-                        Please consider to specify environment variable : %s to specify the build directory.
-                        """.formatted(italic(blue(EnvVars.BUILD_DIR))));
-            }
-        }
-
-        if (!Files.exists(giwt)) {
-            Files.createDirectory(giwt);
-        }
+    private File reportFile() throws IOException {
+        return reportFile(REPORT_FILE);
+    }
 
-        return result;
+    static File reportFile(String fileName) throws IOException {
+        return new File("%s/%s".formatted(Utils.createGiwtDir(), fileName));
     }
 }
@@ -0,0 +1,62 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import io.github.imagineDevit.giwt.core.utils.EnvVars;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A destination of the class reports of a run.
+ * <p>
+ * Class reports are written one at a time, as soon as their class has been executed.
+ * The sink is closed once every class has been executed.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see ReportFormat
+ * @since 0.1.4
+ */
+public interface ReportSink extends Closeable {
+
+    /**
+     * Writes the report of an executed class.
+     *
+     * @param classReport the class report
+     */
+    void write(TestCaseReport.ClassReport classReport);
+
+    /**
+     * Opens the sinks of the report formats selected with {@link EnvVars#REPORT_FORMATS} (defaults to {@code html}).
+     *
+     * @param configuration the configuration parameters of the execution request
+     * @return a sink writing to all the selected formats
+     * @throws IOException if a report file cannot be created
+     */
+    static ReportSink open(ConfigurationParameters configuration) throws IOException {
+        List<ReportFormat> formats = EnvVars.value(configuration, EnvVars.REPORT_FORMATS)
+                .map(value -> Arrays.stream(value.split(",")).map(ReportFormat::of).distinct().toList())
+                .orElse(List.of(ReportFormat.HTML));
+
+        List<ReportSink> sinks = new ArrayList<>();
+        try {
+            for (ReportFormat format : formats) {
+                sinks.add(format.open(configuration));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (ReportSink sink : sinks) {
+                try {
+                    sink.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+
+        return sinks.size() == 1 ? sinks.get(0) : new CompositeReportSink(sinks);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts the fragments of the report data model into plain text: HTML entities and non-breaking spaces are decoded,
+ * and the ANSI escape sequences of the console messages (e.g. of an {@code ExpectationError}) are removed,
+ * as well as any character which is not allowed in an XML document.
+ * <p>
+ * It also escapes the strings of the JSON files written by giwt (reports, traces).
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public final class ReportText {
+
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#(\\d+);");
+
+    private static final Pattern ANSI_SEQUENCE = Pattern.compile("\u001B\\[[0-9;]*[A-Za-z]");
+
+    private static final Pattern INVALID_XML_CHARACTER = Pattern.compile("[^\t\n\r\u0020-\uD7FF\uE000-\uFFFD\\x{10000}-\\x{10FFFF}]");
+
+    private ReportText() {
+    }
+
+    static String plain(String text) {
+        if (text == null) return null;
+
+        String decoded = text.indexOf('&') < 0 ? text : decodeEntities(text);
+        return INVALID_XML_CHARACTER.matcher(ANSI_SEQUENCE.matcher(decoded).replaceAll("")).replaceAll("");
+    }
+
+    private static String decodeEntities(String text) {
+        Matcher matcher = NUMERIC_ENTITY.matcher(text.replace("&nbsp;", " "));
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(result, Matcher.quoteReplacement(decodeEntity(matcher.group(), matcher.group(1))));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * @return the character of a numeric entity, or the entity itself if it is not a valid code point
+     */
+    private static String decodeEntity(String entity, String codePoint) {
+        try {
+            int value = Integer.parseInt(codePoint);
+            return Character.isValidCodePoint(value) ? Character.toString(value) : entity;
+        } catch (NumberFormatException e) {
+            return entity;
+        }
+    }
+
+    /**
+     * Appends a value as a JSON string literal.
+     *
+     * @param builder the builder to append to
+     * @param value   the value (null is appended as {@code null})
+     * @return the builder
+     */
+    public static StringBuilder appendJsonString(StringBuilder builder, String value) {
+        if (value == null) return builder.append("null");
+
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) builder.append("\\u%04x".formatted((int) c));
+                    else builder.append(c);
+                }
+            }
+        }
+        return builder.append('"');
+    }
+}
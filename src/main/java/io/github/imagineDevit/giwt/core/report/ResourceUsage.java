@@ -0,0 +1,86 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The resources used by a test (or by the tests of a class).
+ * <p>
+ * The allocated bytes and the CPU time are those of the thread executing the test.
+ * The GC, JIT compilation and class loading figures are JVM-wide: when tests are executed concurrently,
+ * they include the activity caused by the other tests running at the same time.
+ * A figure the JVM does not support is left to 0.
+ * </p>
+ *
+ * @param allocatedBytes   the bytes allocated by the thread
+ * @param cpuNanos         the CPU time of the thread, in nanoseconds
+ * @param gcCount          the number of garbage collections
+ * @param gcNanos          the time spent in garbage collections, in nanoseconds
+ * @param compilationNanos the time spent in JIT compilation, in nanoseconds
+ * @param loadedClasses    the number of loaded classes
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public record ResourceUsage(long allocatedBytes, long cpuNanos, long gcCount, long gcNanos, long compilationNanos,
+                            long loadedClasses) {
+
+    public static final ResourceUsage ZERO = new ResourceUsage(0, 0, 0, 0, 0, 0);
+
+    public ResourceUsage plus(ResourceUsage other) {
+        return new ResourceUsage(
+                allocatedBytes + other.allocatedBytes,
+                cpuNanos + other.cpuNanos,
+                gcCount + other.gcCount,
+                gcNanos + other.gcNanos,
+                compilationNanos + other.compilationNanos,
+                loadedClasses + other.loadedClasses
+        );
+    }
+
+    public ResourceUsage minus(ResourceUsage other) {
+        return new ResourceUsage(
+                allocatedBytes - other.allocatedBytes,
+                cpuNanos - other.cpuNanos,
+                gcCount - other.gcCount,
+                gcNanos - other.gcNanos,
+                compilationNanos - other.compilationNanos,
+                loadedClasses - other.loadedClasses
+        );
+    }
+
+    /**
+     * @return the formatted figures, in display order
+     */
+    List<Map<String, String>> toList() {
+        List<Map<String, String>> figures = new ArrayList<>();
+        figures.add(Map.of("name", "allocated", "value", formatBytes(allocatedBytes)));
+        figures.add(Map.of("name", "cpu", "value", TestCaseReport.formatDuration(cpuNanos)));
+        figures.add(Map.of("name", "gc", "value", "%d (%s)".formatted(gcCount, TestCaseReport.formatDuration(gcNanos))));
+        figures.add(Map.of("name", "jit", "value", TestCaseReport.formatDuration(compilationNanos)));
+        figures.add(Map.of("name", "classes", "value", Long.toString(loadedClasses)));
+        return figures;
+    }
+
+    /**
+     * @return the raw figures, keyed by the names of the record components
+     */
+    Map<String, Long> toRawMap() {
+        return Map.of(
+                "allocatedBytes", allocatedBytes,
+                "cpuNanos", cpuNanos,
+                "gcCount", gcCount,
+                "gcNanos", gcNanos,
+                "compilationNanos", compilationNanos,
+                "loadedClasses", loadedClasses
+        );
+    }
+
+    public static String formatBytes(long bytes) {
+        if (bytes >= 1L << 30) return String.format(Locale.ROOT, "%.2f GB", bytes / (double) (1L << 30));
+        if (bytes >= 1L << 20) return String.format(Locale.ROOT, "%.2f MB", bytes / (double) (1L << 20));
+        if (bytes >= 1L << 10) return String.format(Locale.ROOT, "%.2f KB", bytes / (double) (1L << 10));
+        return "%d B".formatted(bytes);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import java.util.*;
+
+/**
+ * Keeps the slowest tests of a run, so that the report can list them
+ * without keeping every test report in memory.
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+final class SlowestTests {
+
+    static final int DEFAULT_SIZE = 10;
+
+    private final int size;
+
+    // min-heap on the duration: the fastest of the kept tests is evicted first
+    private final PriorityQueue<Entry> entries = new PriorityQueue<>(Comparator.comparingLong(Entry::durationNanos));
+
+    SlowestTests() {
+        this(DEFAULT_SIZE);
+    }
+
+    SlowestTests(int size) {
+        this.size = size;
+    }
+
+    synchronized void add(TestCaseReport.ClassReport classReport) {
+        classReport.getTestReports().forEach(testReport -> add(classReport.getName(), testReport));
+    }
+
+    private void add(String className, TestCaseReport.TestReport testReport) {
+        long durationNanos = testReport.getDurationNanos();
+
+        if (durationNanos <= 0) return;
+
+        if (entries.size() < size) {
+            entries.add(new Entry(className, testReport.getName(), durationNanos));
+        } else if (durationNanos > entries.peek().durationNanos()) {
+            entries.poll();
+            entries.add(new Entry(className, testReport.getName(), durationNanos));
+        }
+    }
+
+    /**
+     * @return the slowest tests, slowest first
+     */
+    synchronized List<Map<String, Object>> toList() {
+        return entries.stream()
+                .sorted(Comparator.comparingLong(Entry::durationNanos).reversed())
+                .map(Entry::toMap)
+                .toList();
+    }
+
+    private record Entry(String className, String name, long durationNanos) {
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("className", className);
+            map.put("name", String.valueOf(name));
+            map.put("duration", TestCaseReport.formatDuration(durationNanos));
+            return map;
+        }
+    }
+}
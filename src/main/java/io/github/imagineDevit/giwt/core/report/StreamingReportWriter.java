@@ -0,0 +1,87 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import freemarker.template.TemplateException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Writes the HTML report incrementally.
+ * <p>
+ * Each class section is rendered (and flushed) as soon as the class has been executed,
+ * so that only the reports of the classes being executed are kept in memory.
+ * The summary, which is only known at the end of the run, is written last and displayed first.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see ReportProcessor#stream()
+ * @since 0.1.4
+ */
+public class StreamingReportWriter implements ReportSink {
+
+    private final ReportProcessor processor;
+
+    private final File file;
+
+    private final Writer writer;
+
+    private int classCount;
+
+    private long totalCount;
+    private long failureCount;
+    private long skippedCount;
+    private long successCount;
+
+    private final SlowestTests slowestTests = new SlowestTests();
+
+    StreamingReportWriter(ReportProcessor processor, File file) throws IOException {
+        this.processor = processor;
+        this.file = file;
+        this.writer = ReportProcessor.newWriter(file);
+        render("report-start.ftl", Map.of());
+    }
+
+    /**
+     * Appends a class section to the report.
+     *
+     * @param classReport the report of an executed class
+     */
+    @Override
+    public synchronized void write(TestCaseReport.ClassReport classReport) {
+        render("report-class.ftl", Map.of("classReport", classReport.toMap(), "classIndex", ++classCount));
+
+        totalCount += classReport.getTotalCount();
+        failureCount += classReport.getFailureCount();
+        skippedCount += classReport.getSkippedCount();
+        successCount += classReport.getSuccessCount();
+
+        slowestTests.add(classReport);
+    }
+
+    /**
+     * Writes the summary and closes the report.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            render("report-end.ftl", Map.of("report", TestCaseReport.summary(totalCount, failureCount, skippedCount, successCount, slowestTests)));
+        } finally {
+            writer.close();
+        }
+        ReportProcessor.printReportLocation(file);
+    }
+
+    private void render(String template, Map<String, Object> dataModel) {
+        try {
+            processor.template(template).process(dataModel, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (TemplateException e) {
+            throw new IllegalStateException("Failed to render %s".formatted(template), e);
+        }
+    }
+}
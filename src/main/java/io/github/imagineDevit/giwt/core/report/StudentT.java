@@ -0,0 +1,126 @@
+package io.github.imagineDevit.giwt.core.report;
+
+/**
+ * The quantiles of the Student's t-distribution, used to compute the confidence interval of the mean of a few measures.
+ * <p>
+ * The quantile is found by bisection on the cumulative distribution function,
+ * itself computed from the regularized incomplete beta function (Numerical Recipes, 6.4).
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see BenchmarkResult
+ * @since 0.1.4
+ */
+final class StudentT {
+
+    private static final double[] LANCZOS = {
+            76.18009172947146, -86.50532032941677, 24.01409824083091,
+            -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+    };
+
+    private static final int MAX_ITERATIONS = 200;
+
+    private static final double EPSILON = 1e-14;
+
+    private StudentT() {
+    }
+
+    /**
+     * @param p                the probability, between 0.5 (excluded) and 1 (excluded)
+     * @param degreesOfFreedom the degrees of freedom
+     * @return the value {@code t} such that {@code P(T <= t) = p}
+     */
+    static double quantile(double p, int degreesOfFreedom) {
+        if (p <= 0.5 || p >= 1) throw new IllegalArgumentException("p must be in ]0.5, 1[: " + p);
+        if (degreesOfFreedom < 1) throw new IllegalArgumentException("degrees of freedom must be positive: " + degreesOfFreedom);
+
+        double tail = 2 * (1 - p);
+
+        double low = 0;
+        double high = 1;
+        while (twoSidedTail(high, degreesOfFreedom) > tail) {
+            low = high;
+            high *= 2;
+        }
+
+        for (int i = 0; i < MAX_ITERATIONS && high - low > EPSILON * high; i++) {
+            double middle = (low + high) / 2;
+            if (twoSidedTail(middle, degreesOfFreedom) > tail) low = middle;
+            else high = middle;
+        }
+
+        return (low + high) / 2;
+    }
+
+    /**
+     * @return {@code P(|T| > t)}
+     */
+    private static double twoSidedTail(double t, int degreesOfFreedom) {
+        return regularizedBeta(degreesOfFreedom / (degreesOfFreedom + t * t), degreesOfFreedom / 2.0, 0.5);
+    }
+
+    private static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) return 0;
+        if (x >= 1) return 1;
+
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log(1 - x));
+
+        return x < (a + 1) / (a + b + 2)
+                ? front * betaContinuedFraction(x, a, b) / a
+                : 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    /**
+     * Evaluates the continued fraction of the incomplete beta function with the modified Lentz's method.
+     */
+    private static double betaContinuedFraction(double x, double a, double b) {
+        double tiny = 1e-300;
+
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        if (Math.abs(d) < tiny) d = tiny;
+        d = 1 / d;
+        double result = d;
+
+        for (int m = 1; m <= MAX_ITERATIONS; m++) {
+            int m2 = 2 * m;
+
+            double aa = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            result *= d * c;
+
+            aa = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            double delta = d * c;
+            result *= delta;
+
+            if (Math.abs(delta - 1) < EPSILON) break;
+        }
+
+        return result;
+    }
+
+    /**
+     * Lanczos approximation of {@code ln(Γ(x))}, for {@code x > 0}.
+     */
+    private static double logGamma(double x) {
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+
+        double series = 1.000000000190015;
+        for (double coefficient : LANCZOS) {
+            series += coefficient / ++y;
+        }
+
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
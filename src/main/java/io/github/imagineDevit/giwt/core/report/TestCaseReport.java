@@ -1,6 +1,9 @@
 package io.github.imagineDevit.giwt.core.report;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -17,19 +20,39 @@ public class TestCaseReport {
 
     private final Set<ClassReport> classReports = new TreeSet<>(Comparator.comparing(ClassReport::getName));
 
+    private final Map<String, ClassReport> classReportsByName = new HashMap<>();
+
+    private final Counters counters = new Counters();
+
     // region public methods
-    public void addClassReport(ClassReport classReport) {
-        classReports.add(classReport);
+    public synchronized void addClassReport(ClassReport classReport) {
+        if (classReports.add(classReport)) {
+            classReportsByName.put(classReport.getName(), classReport);
+            classReport.attach(this);
+        }
     }
 
-    public Set<ClassReport> getClassReports() {
+    public synchronized Set<ClassReport> getClassReports() {
         return classReports;
     }
 
-    public Optional<ClassReport> getClassReport(String name) {
-        return classReports.stream()
-                .filter(cr -> cr.name.equals(name))
-                .findFirst();
+    public synchronized Optional<ClassReport> getClassReport(String name) {
+        return Optional.ofNullable(classReportsByName.get(name));
+    }
+
+    public synchronized void removeClassReport(ClassReport classReport) {
+        if (classReportsByName.remove(classReport.getName(), classReport)) {
+            classReports.remove(classReport);
+            classReport.detach(this);
+        }
+    }
+
+    public synchronized ClassReport getOrCreateClassReport(String name) {
+        return getClassReport(name).orElseGet(() -> {
+            ClassReport classReport = new ClassReport(name);
+            addClassReport(classReport);
+            return classReport;
+        });
     }
 
     public String toString() {
@@ -40,50 +63,88 @@ public class TestCaseReport {
 
     public Map<String, Object> toMap() {
         Map<String, Object> map = new HashMap<>();
-        map.put("classReports", classReports.stream().map(ClassReport::toMap).collect(Collectors.toList()));
-
-        map.put("totalCount", getTotalTestCount());
-        map.put("failureCount", getFailureCount());
-        map.put("skippedCount", getSkippedCount());
-        map.put("successCount", getSuccessCount());
-
-        map.put("successRate", (((double) getSuccessCount()) / (double) getTotalTestCount()) * 100);
+        SlowestTests slowestTests = new SlowestTests();
+        List<ClassReport> reports = List.copyOf(getClassReports());
+        reports.forEach(slowestTests::add);
+        map.put("classReports", reports.stream().map(ClassReport::toMap).collect(Collectors.toList()));
+        map.putAll(summary(counters.total(), counters.count(TestReport.Status.FAILURE), counters.count(TestReport.Status.SKIPPED), counters.count(TestReport.Status.SUCCESS), slowestTests));
+        return map;
+    }
 
+    static Map<String, Object> summary(long totalCount, long failureCount, long skippedCount, long successCount, SlowestTests slowestTests) {
+        Map<String, Object> map = summary(totalCount, failureCount, skippedCount, successCount);
+        map.put("slowestTests", slowestTests.toList());
         return map;
     }
 
-    // endregion
+    private static Map<String, Object> summary(long totalCount, long failureCount, long skippedCount, long successCount) {
+        Map<String, Object> map = new HashMap<>();
 
-    // region private methods
-    private int getTotalTestCount() {
-        return classReports.stream()
-                .mapToInt(cr -> cr.testReports.size())
-                .sum();
-    }
+        map.put("totalCount", totalCount);
+        map.put("failureCount", failureCount);
+        map.put("skippedCount", skippedCount);
+        map.put("successCount", successCount);
 
-    private long getFailureCount() {
-        return classReports.stream()
-                .mapToLong(ClassReport::getFailureCount)
-                .sum();
-    }
+        map.put("successRate", (((double) successCount) / (double) totalCount) * 100);
 
-    private long getSkippedCount() {
-        return classReports.stream()
-                .mapToLong(ClassReport::getSkippedCount)
-                .sum();
+        return map;
     }
 
-    private long getSuccessCount() {
-        return classReports.stream()
-                .mapToLong(ClassReport::getSuccessCount)
-                .sum();
+    /**
+     * Formats a duration for the report, with a unit suited to its magnitude.
+     *
+     * @param nanos the duration, in nanoseconds
+     * @return the formatted duration
+     */
+    public static String formatDuration(long nanos) {
+        if (nanos >= 1_000_000_000L) return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+        if (nanos >= 1_000_000L) return String.format(Locale.ROOT, "%.2f ms", nanos / 1e6);
+        return "%d µs".formatted(nanos / 1_000L);
     }
 
     // endregion
 
+    /**
+     * Test counters, kept up to date as test reports are added and their status is set,
+     * so that no aggregate has to be computed by iterating over the test reports.
+     */
+    private static final class Counters {
+
+        private final AtomicLong total = new AtomicLong();
+
+        private final AtomicLongArray byStatus = new AtomicLongArray(TestReport.Status.values().length);
+
+        void add(TestReport.Status status, long delta) {
+            total.addAndGet(delta);
+            if (status != null) byStatus.addAndGet(status.ordinal(), delta);
+        }
+
+        void move(TestReport.Status previous, TestReport.Status status) {
+            if (previous != null) byStatus.decrementAndGet(previous.ordinal());
+            if (status != null) byStatus.incrementAndGet(status.ordinal());
+        }
+
+        void addAll(Counters other, long sign) {
+            total.addAndGet(sign * other.total.get());
+            for (int i = 0; i < byStatus.length(); i++) {
+                byStatus.addAndGet(i, sign * other.byStatus.get(i));
+            }
+        }
+
+        long total() {
+            return total.get();
+        }
+
+        long count(TestReport.Status status) {
+            return byStatus.get(status.ordinal());
+        }
+    }
+
     public static class ClassReport {
         private final String name;
         private final List<TestReport> testReports = new ArrayList<>();
+        private final Counters counters = new Counters();
+        private TestCaseReport owner;
 
         public ClassReport(String name) {
             this.name = name;
@@ -94,15 +155,23 @@ public class TestCaseReport {
         }
 
 
-        public void addTestReport(TestReport testReport) {
+        public synchronized void addTestReport(TestReport testReport) {
             testReports.add(testReport);
+            TestReport.Status status = testReport.attach(this);
+            counters.add(status, 1);
+            if (owner != null) owner.counters.add(status, 1);
+        }
+
+        public synchronized List<TestReport> getTestReports() {
+            return List.copyOf(testReports);
+        }
+
+        public int getTotalCount() {
+            return (int) counters.total();
         }
 
         public double getSuccessRate() {
-            var successCount = testReports.stream()
-                    .filter(testReport -> testReport.getStatus() == TestReport.Status.SUCCESS)
-                    .count();
-            return (double) successCount / testReports.size();
+            return (double) getSuccessCount() / getTotalCount();
         }
 
         public String toString() {
@@ -115,43 +184,83 @@ public class TestCaseReport {
         public Map<String, Object> toMap() {
             Map<String, Object> map = new HashMap<>();
             map.put("name", name);
-            map.put("testReports", testReports.stream().map(TestReport::toMap).collect(Collectors.toList()));
+            map.put("testReports", getTestReports().stream().map(TestReport::toMap).collect(Collectors.toList()));
 
-            map.put("totalCount", testReports.size());
+            map.put("totalCount", getTotalCount());
             map.put("successCount", getSuccessCount());
             map.put("failureCount", getFailureCount());
             map.put("skippedCount", getSkippedCount());
             map.put("successRate", getSuccessRate() * 100);
 
+            long[] phaseNanos = new long[TestReport.Phase.values().length];
+            long durationNanos = 0;
+            for (TestReport testReport : getTestReports()) {
+                durationNanos += testReport.getDurationNanos();
+                for (TestReport.Phase phase : TestReport.Phase.values()) {
+                    phaseNanos[phase.ordinal()] += testReport.getDurationNanos(phase);
+                }
+            }
+            map.put("duration", formatDuration(durationNanos));
+            map.put("phaseDurations", TestReport.phaseDurations(phaseNanos));
+            getResourceUsage().ifPresent(usage -> map.put("resources", usage.toList()));
+
             return map;
         }
 
+        /**
+         * @return the resources used by the tests of the class, or an empty optional if none of them has been measured
+         */
+        public Optional<ResourceUsage> getResourceUsage() {
+            return getTestReports().stream()
+                    .map(TestReport::getResourceUsage)
+                    .filter(Objects::nonNull)
+                    .reduce(ResourceUsage::plus);
+        }
+
         public long getFailureCount() {
-            return testReports.stream()
-                    .filter(testReport -> testReport.getStatus() == TestReport.Status.FAILURE)
-                    .count();
+            return counters.count(TestReport.Status.FAILURE);
         }
 
         public long getSkippedCount() {
-            return testReports.stream()
-                    .filter(testReport -> testReport.getStatus() == TestReport.Status.SKIPPED)
-                    .count();
+            return counters.count(TestReport.Status.SKIPPED);
         }
 
         public long getSuccessCount() {
-            return testReports.stream()
-                    .filter(testReport -> testReport.getStatus() == TestReport.Status.SUCCESS)
-                    .count();
+            return counters.count(TestReport.Status.SUCCESS);
+        }
+
+        private synchronized void attach(TestCaseReport owner) {
+            this.owner = owner;
+            owner.counters.addAll(counters, 1);
+        }
+
+        private synchronized void detach(TestCaseReport owner) {
+            if (this.owner == owner) {
+                this.owner = null;
+                owner.counters.addAll(counters, -1);
+            }
+        }
+
+        private synchronized void statusChanged(TestReport.Status previous, TestReport.Status status) {
+            counters.move(previous, status);
+            if (owner != null) owner.counters.move(previous, status);
         }
     }
 
     public static class TestReport {
 
         private final List<DescriptionItem> descriptionItems = new ArrayList<>();
+        private final List<Phase> descriptionPhases = new ArrayList<>();
         private final List<String> stacktraces = new ArrayList<>();
+        private final long[] phaseNanos = new long[Phase.values().length];
+        private long durationNanos;
         private String name;
         private Status status;
         private String failureReason;
+        private ClassReport owner;
+        private volatile PhaseListener phaseListener;
+        private ResourceUsage resourceUsage;
+        private BenchmarkResult benchmarkResult;
 
         public String getName() {
             return name;
@@ -161,16 +270,132 @@ public class TestCaseReport {
             this.name = name;
         }
 
-        public Status getStatus() {
+        public synchronized Status getStatus() {
             return status;
         }
 
         public void setStatus(Status status) {
-            this.status = status;
+            Status previous;
+            ClassReport classReport;
+
+            synchronized (this) {
+                previous = this.status;
+                this.status = status;
+                classReport = this.owner;
+            }
+
+            // the class report lock is not taken while holding this one (the class report takes them in the reverse order)
+            if (classReport != null && previous != status) classReport.statusChanged(previous, status);
         }
 
-        public void addDescriptionItem(DescriptionItem description) {
+        private synchronized Status attach(ClassReport owner) {
+            this.owner = owner;
+            return status;
+        }
+
+        public synchronized void addDescriptionItem(DescriptionItem description) {
+            Phase phase = Phase.of(description.prefix())
+                    .orElseGet(() -> descriptionPhases.isEmpty() ? Phase.GIVEN : descriptionPhases.get(descriptionPhases.size() - 1));
             this.descriptionItems.add(description);
+            this.descriptionPhases.add(phase);
+        }
+
+        /**
+         * @param phaseListener the listener notified of each timed step (null to notify none)
+         */
+        public void setPhaseListener(PhaseListener phaseListener) {
+            this.phaseListener = phaseListener;
+        }
+
+        /**
+         * Runs a step of a phase of the test, adds its duration to the report and notifies the {@link PhaseListener}, if any.
+         *
+         * @param phase the phase
+         * @param step  the step
+         * @param <X>   the step result type
+         * @return the step result
+         */
+        public <X> X timed(Phase phase, Supplier<X> step) {
+            long start = System.nanoTime();
+            try {
+                return step.get();
+            } finally {
+                long nanos = System.nanoTime() - start;
+                addDuration(phase, nanos);
+                PhaseListener listener = phaseListener;
+                if (listener != null) listener.stepTimed(phase, start, nanos);
+            }
+        }
+
+        /**
+         * @see #timed(Phase, Supplier)
+         */
+        public void timed(Phase phase, Runnable step) {
+            timed(phase, () -> {
+                step.run();
+                return null;
+            });
+        }
+
+        /**
+         * Adds the duration of a step of a phase of the test.
+         * The duration of a GIVEN, WHEN or THEN step is also set on the first description item of this phase
+         * which has no duration yet.
+         *
+         * @param phase the phase
+         * @param nanos the duration of the step, in nanoseconds (measured with a monotonic clock)
+         */
+        public synchronized void addDuration(Phase phase, long nanos) {
+            phaseNanos[phase.ordinal()] += nanos;
+
+            for (int i = 0; i < descriptionItems.size(); i++) {
+                DescriptionItem item = descriptionItems.get(i);
+                if (descriptionPhases.get(i) == phase && item.durationNanos() == null) {
+                    descriptionItems.set(i, item.withDuration(nanos));
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @param phase the phase
+         * @return the total duration of the steps of a phase, in nanoseconds
+         */
+        public synchronized long getDurationNanos(Phase phase) {
+            return phaseNanos[phase.ordinal()];
+        }
+
+        /**
+         * @return the duration of the whole test (callbacks included), in nanoseconds
+         */
+        public synchronized long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public synchronized void setDurationNanos(long durationNanos) {
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * @return the resources used by the test, or null if they have not been measured
+         */
+        public synchronized ResourceUsage getResourceUsage() {
+            return resourceUsage;
+        }
+
+        public synchronized void setResourceUsage(ResourceUsage resourceUsage) {
+            this.resourceUsage = resourceUsage;
+        }
+
+        /**
+         * @return the result of the benchmarked WHEN step, or null if the test is not a benchmark
+         */
+        public synchronized BenchmarkResult getBenchmarkResult() {
+            return benchmarkResult;
+        }
+
+        public synchronized void setBenchmarkResult(BenchmarkResult benchmarkResult) {
+            this.benchmarkResult = benchmarkResult;
         }
 
         public void addTrace(String stacktrace) {
@@ -181,12 +406,30 @@ public class TestCaseReport {
             this.failureReason = failureReason;
         }
 
+        public String getFailureReason() {
+            return failureReason;
+        }
+
+        public synchronized List<DescriptionItem> getDescriptionItems() {
+            return List.copyOf(descriptionItems);
+        }
+
+        public List<String> getStacktraces() {
+            return Collections.unmodifiableList(stacktraces);
+        }
+
         public Map<String, Object> toMap() {
             Map<String, Object> map = new HashMap<>();
             map.put("name", "%s %s".formatted(status.symbol, name));
-            map.put("descriptions", descriptionItems.stream().map(DescriptionItem::toMap).collect(Collectors.toList()));
+            map.put("descriptions", getDescriptionItems().stream().map(DescriptionItem::toMap).collect(Collectors.toList()));
             map.put("status", status.label);
             map.put("statusColor", status.cssClass);
+            map.put("duration", formatDuration(getDurationNanos()));
+            synchronized (this) {
+                map.put("phaseDurations", phaseDurations(phaseNanos));
+                if (resourceUsage != null) map.put("resources", resourceUsage.toList());
+                if (benchmarkResult != null) map.put("benchmark", benchmarkResult.toList());
+            }
 
             if (!stacktraces.isEmpty()) map.put("stacktraces", stacktraces);
 
@@ -194,6 +437,53 @@ public class TestCaseReport {
             return map;
         }
 
+        static List<Map<String, String>> phaseDurations(long[] phaseNanos) {
+            return Arrays.stream(Phase.values())
+                    .filter(phase -> phaseNanos[phase.ordinal()] > 0)
+                    .map(phase -> Map.of("phase", phase.label, "duration", formatDuration(phaseNanos[phase.ordinal()])))
+                    .toList();
+        }
+
+        /**
+         * A listener of the timed steps of a test
+         */
+        @FunctionalInterface
+        public interface PhaseListener {
+
+            /**
+             * @param phase      the phase of the step
+             * @param startNanos the start of the step ({@link System#nanoTime()})
+             * @param nanos      the duration of the step, in nanoseconds
+             */
+            void stepTimed(Phase phase, long startNanos, long nanos);
+        }
+
+        /**
+         * The phases of a test, whose durations are measured
+         */
+        public enum Phase {
+            BEFORE("before"),
+            GIVEN("given"),
+            WHEN("when"),
+            THEN("then"),
+            AFTER("after");
+
+            final String label;
+
+            Phase(String label) {
+                this.label = label;
+            }
+
+            private static Optional<Phase> of(String prefix) {
+                return switch (prefix) {
+                    case "GIVEN" -> Optional.of(GIVEN);
+                    case "WHEN" -> Optional.of(WHEN);
+                    case "THEN" -> Optional.of(THEN);
+                    default -> Optional.empty();
+                };
+            }
+        }
+
         public enum Status {
             SUCCESS("&#9989;", "passed", "text-success"),
             FAILURE("&#10060;", "failed", "text-danger"),
@@ -212,7 +502,22 @@ public class TestCaseReport {
 
         }
 
-        public record DescriptionItem(String prefix, String label) {
+        /**
+         * A step of the test description
+         *
+         * @param prefix        the step prefix (GIVEN, WHEN, THEN, AND)
+         * @param label         the step label
+         * @param durationNanos the duration of the step in nanoseconds, or null if it has not been measured
+         */
+        public record DescriptionItem(String prefix, String label, Long durationNanos) {
+
+            public DescriptionItem(String prefix, String label) {
+                this(prefix, label, null);
+            }
+
+            public DescriptionItem withDuration(long nanos) {
+                return new DescriptionItem(prefix, label, nanos);
+            }
 
             public static DescriptionItem given(String label) {
                 return new DescriptionItem("GIVEN", label);
@@ -235,6 +540,7 @@ public class TestCaseReport {
                 HashMap<String, String> map = new HashMap<>();
                 map.put("prefix", prefix);
                 map.put("label", label);
+                if (durationNanos != null) map.put("duration", formatDuration(durationNanos));
                 return map;
             }
         }
@@ -0,0 +1,194 @@
+package io.github.imagineDevit.giwt.core.trace;
+
+import io.github.imagineDevit.giwt.core.report.ReportText;
+import io.github.imagineDevit.giwt.core.utils.EnvVars;
+import io.github.imagineDevit.giwt.core.utils.Utils;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the timeline of a run in the trace event format, which can be opened with Perfetto or {@code chrome://tracing}.
+ * <p>
+ * Each span is written as a complete event ({@code "ph":"X"}) on the track of the thread that executed it,
+ * as soon as it ends, so that the timeline is not kept in memory.
+ * Tracks are named after their threads (e.g. {@code giwt-worker-1}).
+ * </p>
+ * <p>
+ * Tracing never fails the run: if the trace file cannot be opened or written, the failure is logged
+ * and the writer is disabled.
+ * </p>
+ *
+ * <pre>{@code
+ * {"traceEvents":[
+ * {"name":"thread_name","ph":"M","pid":1,"tid":1,"args":{"name":"main"}},
+ * {"name":"my test","cat":"test","ph":"X","ts":12.345,"dur":678.901,"pid":1,"tid":1},
+ * ...
+ * ]}
+ * }</pre>
+ *
+ * @author Henri Joel SEDJAME
+ * @see EnvVars#TRACE
+ * @since 0.1.4
+ */
+public final class TraceWriter implements Closeable {
+
+    public static final String FILE = "trace.json";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TraceWriter.class);
+
+    private static final TraceWriter DISABLED = new TraceWriter(null);
+
+    private final Writer writer;
+
+    private final long origin = System.nanoTime();
+
+    private final Set<Long> namedThreads = ConcurrentHashMap.newKeySet();
+
+    private boolean first = true;
+
+    private volatile boolean failed;
+
+    private TraceWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a trace file in the giwt build directory when {@link EnvVars#TRACE} is enabled.
+     *
+     * @param configuration the configuration parameters of the execution request
+     * @return the trace writer, or a disabled writer
+     */
+    public static TraceWriter open(ConfigurationParameters configuration) {
+        if (!EnvVars.isEnabled(configuration, EnvVars.TRACE)) return DISABLED;
+
+        Optional<Path> file = Utils.giwtFile(FILE);
+        // no build directory: the run is not traced
+        if (file.isEmpty()) return DISABLED;
+
+        try {
+            return of(Files.newBufferedWriter(file.get(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOGGER.warn(e, () -> "Failed to open %s: the run is not traced".formatted(file.get()));
+            return DISABLED;
+        }
+    }
+
+    /**
+     * @param writer the writer the trace is written to, closed with the trace writer
+     * @return a trace writer
+     */
+    public static TraceWriter of(Writer writer) {
+        TraceWriter trace = new TraceWriter(writer);
+        trace.write("{\"traceEvents\":[\n");
+        return trace;
+    }
+
+    public static TraceWriter disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return true if the run is traced, and no write has failed so far
+     */
+    public boolean isEnabled() {
+        return writer != null && !failed;
+    }
+
+    /**
+     * Writes a span executed by the current thread.
+     *
+     * @param name       the name of the span
+     * @param category   the category of the span
+     * @param startNanos the start of the span ({@link System#nanoTime()})
+     * @param nanos      the duration of the span, in nanoseconds
+     */
+    public void span(String name, String category, long startNanos, long nanos) {
+        if (!isEnabled()) return;
+
+        Thread thread = Thread.currentThread();
+        @SuppressWarnings("deprecation")
+        long tid = thread.getId();
+
+        StringBuilder event = new StringBuilder(128);
+
+        if (namedThreads.add(tid)) {
+            event.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(tid)
+                    .append(",\"args\":{\"name\":");
+            ReportText.appendJsonString(event, thread.getName());
+            event.append("}}");
+            appendEvent(event);
+            event.setLength(0);
+        }
+
+        event.append("{\"name\":");
+        ReportText.appendJsonString(event, name);
+        event.append(",\"cat\":");
+        ReportText.appendJsonString(event, category);
+        event.append(",\"ph\":\"X\",\"ts\":").append(micros(startNanos - origin))
+                .append(",\"dur\":").append(micros(nanos))
+                .append(",\"pid\":1,\"tid\":").append(tid).append('}');
+        appendEvent(event);
+    }
+
+    /**
+     * Terminates the trace and closes its writer.
+     */
+    @Override
+    public synchronized void close() {
+        if (!isEnabled()) return;
+
+        write("\n]}\n");
+        if (failed) return;
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private synchronized void appendEvent(CharSequence event) {
+        write(first ? "" : ",\n");
+        write(event);
+        first = false;
+    }
+
+    private void write(CharSequence value) {
+        if (failed) return;
+
+        try {
+            writer.append(value);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Disables the writer after its first failure, so that the tests keep running untraced.
+     */
+    private void fail(IOException e) {
+        failed = true;
+        LOGGER.warn(e, () -> "Failed to write the trace: the rest of the run is not traced");
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // nothing more can be done
+        }
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000.0);
+    }
+}
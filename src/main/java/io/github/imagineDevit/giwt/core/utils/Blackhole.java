@@ -0,0 +1,27 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+/**
+ * Consumes the results of benchmarked code, so that the JIT compiler cannot eliminate the code computing them.
+ * <p>
+ * Each consumed value is compared with a volatile field the compiler cannot predict,
+ * and is only stored (which never happens in practice) when they are the same.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public final class Blackhole {
+
+    private volatile Object guard = new Object();
+
+    private Object sink;
+
+    /**
+     * @param value the value to consume
+     */
+    public void consume(Object value) {
+        if (value == guard) {
+            sink = value;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Lists the classes of a classpath root (a directory or a jar file) without loading them,
+ * so that they can be loaded and inspected concurrently.
+ *
+ * @author Henri Joel SEDJAME
+ * @see SelectorUtils
+ * @since 0.1.4
+ */
+final class ClasspathRoots {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private ClasspathRoots() {
+    }
+
+    /**
+     * @param classpathRoot   the classpath root
+     * @param classNameFilter the filter of the fully qualified names of the classes
+     * @return the sorted names of the classes of the classpath root passing the filter,
+     * or an empty optional if the classpath root cannot be listed
+     */
+    static Optional<List<String>> findClassNames(URI classpathRoot, Predicate<String> classNameFilter) {
+        if (!"file".equals(classpathRoot.getScheme())) return Optional.empty();
+
+        Path root = Path.of(classpathRoot);
+
+        try {
+            if (Files.isDirectory(root)) {
+                return Optional.of(findClassNames(root, classNameFilter));
+            }
+            if (Files.isRegularFile(root)) {
+                try (FileSystem jar = FileSystems.newFileSystem(root)) {
+                    return Optional.of(findClassNames(jar.getPath("/"), classNameFilter));
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // the classpath root is then scanned sequentially
+        }
+        return Optional.empty();
+    }
+
+    private static List<String> findClassNames(Path root, Predicate<String> classNameFilter) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files
+                    .filter(file -> file.getFileName() != null && file.getFileName().toString().endsWith(CLASS_FILE_SUFFIX))
+                    .map(file -> className(root.relativize(file)))
+                    .filter(ClasspathRoots::isClassName)
+                    .filter(classNameFilter)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String className(Path classFile) {
+        String path = classFile.toString().replace(classFile.getFileSystem().getSeparator(), ".");
+        return path.substring(0, path.length() - CLASS_FILE_SUFFIX.length());
+    }
+
+    /**
+     * Excludes the module and package descriptors, and the classes of the {@code META-INF} directory (e.g. multi-release jars)
+     */
+    private static boolean isClassName(String name) {
+        return !name.endsWith("module-info") && !name.endsWith("package-info") && !name.contains("-");
+    }
+}
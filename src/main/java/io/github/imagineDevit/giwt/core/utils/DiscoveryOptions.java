@@ -0,0 +1,81 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import io.github.imagineDevit.giwt.core.context.DiscoveryCache;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.PackageNameFilter;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The options of a test discovery.
+ *
+ * @param cache           the discovery cache
+ * @param parallelism     the number of test classes validated at the same time
+ * @param classNameFilter the filter of the fully qualified names of the test classes, applied before a class is loaded
+ * @param useTestIndex    true if the {@link io.github.imagineDevit.giwt.core.index.TestIndex test index} of a classpath root is used
+ * @author Henri Joel SEDJAME
+ * @see SelectorUtils
+ * @since 0.1.4
+ */
+public record DiscoveryOptions(DiscoveryCache cache, int parallelism, Predicate<String> classNameFilter, boolean useTestIndex) {
+
+    /**
+     * Sequential discovery, without cache nor filter
+     */
+    public static final DiscoveryOptions DEFAULT = new DiscoveryOptions(DiscoveryCache.disabled(), 1);
+
+    public DiscoveryOptions(DiscoveryCache cache, int parallelism) {
+        this(cache, parallelism, name -> true, true);
+    }
+
+    public static DiscoveryOptions of(ConfigurationParameters configuration) {
+        int parallelism = EnvVars.isEnabled(configuration, EnvVars.PARALLEL_DISCOVERY)
+                ? Math.max(1, EnvVars.intValue(configuration, EnvVars.PARALLELISM, Runtime.getRuntime().availableProcessors()))
+                : 1;
+
+        return new DiscoveryOptions(DiscoveryCache.open(configuration), parallelism)
+                .withTestIndex(EnvVars.isEnabled(configuration, EnvVars.TEST_INDEX, true));
+    }
+
+    /**
+     * Creates the options of a discovery request, whose {@link ClassNameFilter class name} and
+     * {@link PackageNameFilter package name} filters must all include a test class.
+     *
+     * @param request the discovery request
+     * @return the discovery options
+     */
+    public static DiscoveryOptions of(EngineDiscoveryRequest request) {
+        List<DiscoveryFilter<String>> filters = Stream.concat(
+                request.getFiltersByType(ClassNameFilter.class).stream(),
+                request.getFiltersByType(PackageNameFilter.class).stream()
+        ).toList();
+
+        return of(request.getConfigurationParameters()).withClassNameFilter(Filter.composeFilters(filters).toPredicate());
+    }
+
+    public DiscoveryOptions withClassNameFilter(Predicate<String> classNameFilter) {
+        return new DiscoveryOptions(cache, parallelism, classNameFilter, useTestIndex);
+    }
+
+    public DiscoveryOptions withTestIndex(boolean useTestIndex) {
+        return new DiscoveryOptions(cache, parallelism, classNameFilter, useTestIndex);
+    }
+
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    /**
+     * @param className the fully qualified name of a class
+     * @return true if the class passes the class name filter
+     */
+    public boolean includesClass(String className) {
+        return classNameFilter.test(className);
+    }
+}
@@ -1,7 +1,14 @@
 package io.github.imagineDevit.giwt.core.utils;
 
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.util.Optional;
+
 /**
  * This class contains the names of the Maven arguments that can be used when launching {@code mvn test}.
+ * <p>
+ * When a JUnit configuration parameter with the same name is provided, it takes precedence over the environment variable.
+ * </p>
  *
  * @author Henri Joel SEDJAME
  * @since 0.0.1
@@ -9,4 +16,127 @@ package io.github.imagineDevit.giwt.core.utils;
 public final class EnvVars {
     public static final String GENERATE_REPORT = "giwt.generate.report";
     public static final String BUILD_DIR = "giwt.build.dir";
+
+    /**
+     * Comma separated list of the report formats to generate: {@code html} (default), {@code jsonl}, {@code junit-xml}
+     */
+    public static final String REPORT_FORMATS = "giwt.report.formats";
+
+    /**
+     * Writes the HTML report incrementally, each class section being appended as soon as the class has been executed
+     */
+    public static final String REPORT_STREAMING = "giwt.report.streaming";
+
+    /**
+     * Caches the validated test methods of the test classes in the giwt build directory, so that unchanged classes skip validation
+     */
+    public static final String DISCOVERY_CACHE = "giwt.discovery.cache.enabled";
+
+    /**
+     * Uses the compile-time test index of a classpath root, when there is one, instead of scanning all its classes (default: true).
+     * A stale index, not covering every class of its classpath root, is ignored
+     */
+    public static final String TEST_INDEX = "giwt.discovery.index.enabled";
+
+    /**
+     * Enables the parallel validation of test classes during the discovery ({@link #PARALLELISM} workers)
+     */
+    public static final String PARALLEL_DISCOVERY = "giwt.discovery.parallel.enabled";
+
+    /**
+     * Enables the parallel execution of test classes
+     */
+    public static final String PARALLEL_EXECUTION = "giwt.parallel.enabled";
+
+    /**
+     * Number of workers used when {@link #PARALLEL_EXECUTION} is enabled (defaults to the number of available processors)
+     */
+    public static final String PARALLELISM = "giwt.parallel.parallelism";
+
+    /**
+     * Runs the body of each test (the test method and the run of its test case) on its own virtual thread
+     * (when supported by the JDK), at most {@link #VIRTUAL_THREADS_MAX_CONCURRENCY} bodies running at the same time.
+     * Concurrently executed test classes and rows also run on virtual threads, and {@link #PARALLELISM} then defaults
+     * to {@link #VIRTUAL_THREADS_MAX_CONCURRENCY}.
+     */
+    public static final String VIRTUAL_THREADS = "giwt.parallel.virtual-threads";
+
+    /**
+     * Maximum number of test bodies running on virtual threads at the same time (defaults to 256)
+     */
+    public static final String VIRTUAL_THREADS_MAX_CONCURRENCY = "giwt.virtual-threads.max-concurrency";
+
+    /**
+     * Records the durations of the test classes and tests in the giwt build directory,
+     * so that the next {@link #PARALLEL_EXECUTION parallel} runs execute the longest test classes first
+     */
+    public static final String TIMINGS = "giwt.parallel.timings.enabled";
+
+    /**
+     * Writes the metrics of the run (discovery time, tests by status, tests per second, histogram of the test durations)
+     * in the Prometheus text format to the giwt build directory
+     */
+    public static final String METRICS = "giwt.metrics.enabled";
+
+    /**
+     * Writes the timeline of the run (test classes, tests, callbacks and GIVEN/WHEN/THEN phases, one track per thread)
+     * in the trace event format to the giwt build directory
+     */
+    public static final String TRACE = "giwt.trace.enabled";
+
+    /**
+     * Measures the resources used by each test (allocated bytes, CPU time, GC, JIT compilation and loaded classes)
+     * and adds them to the reports.
+     * When test bodies run on {@link #VIRTUAL_THREADS virtual threads}, the allocated bytes and the CPU time
+     * only cover the callbacks, the JVM not measuring them for virtual threads.
+     */
+    public static final String RESOURCES = "giwt.report.resources.enabled";
+
+    private EnvVars() {
+    }
+
+    public static Optional<String> value(String name) {
+        return Optional.ofNullable(System.getenv(name))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty());
+    }
+
+    public static Optional<String> value(ConfigurationParameters parameters, String name) {
+        return parameters.get(name)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .or(() -> value(name));
+    }
+
+    public static boolean isEnabled(String name) {
+        return value(name).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    public static boolean isEnabled(ConfigurationParameters parameters, String name) {
+        return isEnabled(parameters, name, false);
+    }
+
+    public static boolean isEnabled(ConfigurationParameters parameters, String name, boolean defaultValue) {
+        return value(parameters, name).map(Boolean::parseBoolean).orElse(defaultValue);
+    }
+
+    public static int intValue(String name, int defaultValue) {
+        return intValue(value(name), defaultValue);
+    }
+
+    public static int intValue(ConfigurationParameters parameters, String name, int defaultValue) {
+        return intValue(value(parameters, name), defaultValue);
+    }
+
+    private static int intValue(Optional<String> value, int defaultValue) {
+        return value
+                .map(v -> {
+                    try {
+                        return Integer.parseInt(v);
+                    } catch (NumberFormatException e) {
+                        return defaultValue;
+                    }
+                })
+                .orElse(defaultValue);
+    }
 }
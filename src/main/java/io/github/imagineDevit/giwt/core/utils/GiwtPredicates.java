@@ -6,6 +6,7 @@ import io.github.imagineDevit.giwt.core.TestParameters;
 import io.github.imagineDevit.giwt.core.annotations.ParameterSource;
 import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
 import io.github.imagineDevit.giwt.core.annotations.Test;
+import io.github.imagineDevit.giwt.core.context.ClassMetadata;
 import io.github.imagineDevit.giwt.core.errors.ParameterSourceException;
 import io.github.imagineDevit.giwt.core.errors.ParameterizedTestMethodException;
 import io.github.imagineDevit.giwt.core.errors.TestClassException;
@@ -55,8 +56,7 @@ public class GiwtPredicates {
                         () -> failure(new ExceptionArg(() -> new TestClassException(className.apply(clazz), IS_PRIVATE)))
                 ),
                 matchCase(
-                        () -> !findMethods(clazz, m -> AnnotationSupport.isAnnotated(m, Test.class)
-                                || AnnotationSupport.isAnnotated(m, ParameterizedTest.class)).isEmpty(),
+                        () -> ClassMetadata.of(clazz).hasTestMethods(),
                         () -> success(Boolean.TRUE)
                 )
         ).orElse(false);
@@ -74,9 +74,10 @@ public class GiwtPredicates {
                 ),
                 matchCase(
                         () -> {
-                            var testMethods = findMethods(clazz, GiwtPredicates::isTestMethod);
+                            var metadata = ClassMetadata.of(clazz);
+                            var testMethods = metadata.testMethods().stream().filter(GiwtPredicates::isTestMethod).toList();
                             GiwtTestEngine.CONTEXT.addTestMethod(clazz, testMethods, false);
-                            var parameterizedTestMethods = findMethods(clazz, GiwtPredicates::isParameterizedTestMethod);
+                            var parameterizedTestMethods = metadata.parameterizedTestMethods().stream().filter(GiwtPredicates::isParameterizedTestMethod).toList();
                             GiwtTestEngine.CONTEXT.addTestMethod(clazz, parameterizedTestMethods, true);
                             return !testMethods.isEmpty() || !parameterizedTestMethods.isEmpty();
                         },
@@ -0,0 +1,73 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A value computed on first access, at most once even when several threads ask for it at the same time,
+ * and which can be released so that it is computed again on next access.
+ *
+ * @param <T> the type of the value
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private final Supplier<? extends T> supplier;
+
+    private volatile Val value = new Val.Unsetted();
+
+    private Lazy(Supplier<? extends T> supplier) {
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+    /**
+     * @param supplier the supplier of the value, called on first access
+     * @param <T>      the type of the value
+     * @return a lazy value
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> supplier) {
+        return new Lazy<>(supplier);
+    }
+
+    /**
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return an already computed value
+     */
+    public static <T> Lazy<T> value(T value) {
+        Lazy<T> lazy = new Lazy<>(() -> value);
+        lazy.value = new Val.Setted<>(value);
+        return lazy;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (value instanceof Val.Setted<?> setted) {
+            return (T) setted.value();
+        }
+        synchronized (this) {
+            if (value instanceof Val.Setted<?> setted) {
+                return (T) setted.value();
+            }
+            T t = supplier.get();
+            value = new Val.Setted<>(t);
+            return t;
+        }
+    }
+
+    /**
+     * @return true if the value has been computed
+     */
+    public boolean isComputed() {
+        return value instanceof Val.Setted<?>;
+    }
+
+    /**
+     * Releases the value, which is computed again on next access.
+     */
+    public synchronized void release() {
+        value = new Val.Unsetted();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * A pre-bound invoker of a test (or callback) method.
+ * <p>
+ * The method is resolved once into a {@link MethodHandle} adapted to an all-{@code Object} signature,
+ * so that each invocation is an exact, allocation-free {@code invokeExact} call
+ * (no varargs array, no reflective access check).
+ * Static methods are supported: the target argument is then ignored.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public final class MethodInvoker {
+
+    private final Method method;
+
+    private final MethodHandle handle;
+
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    public static MethodInvoker of(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(ReflectionUtils.makeAccessible(method));
+
+            if (ReflectionUtils.isStatic(method)) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            return new MethodInvoker(method, handle.asType(MethodType.genericMethodType(method.getParameterCount() + 1)));
+        } catch (IllegalAccessException e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Object invoke(Object target) {
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1) {
+        try {
+            return (Object) handle.invokeExact(target, arg1);
+        } catch (Throwable e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2);
+        } catch (Throwable e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3, Object arg4) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2, arg3, arg4);
+        } catch (Throwable e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2, arg3, arg4, arg5);
+        } catch (Throwable e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2, arg3, arg4, arg5, arg6);
+        } catch (Throwable e) {
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import io.github.imagineDevit.giwt.core.report.ResourceUsage;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.lang.management.*;
+import java.util.List;
+
+/**
+ * Measures the {@link ResourceUsage resources used} by the tests, from the management beans of the JVM.
+ * <p>
+ * The allocated bytes are read from {@code com.sun.management.ThreadMXBean} when the JVM provides it.
+ * Measuring the allocations and the CPU time of the threads is enabled when the meter is opened, if it is not already.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see EnvVars#RESOURCES
+ * @since 0.1.4
+ */
+public final class ResourceMeter {
+
+    private static final ResourceMeter DISABLED = new ResourceMeter(false);
+
+    private static final ResourceMeter ENABLED = new ResourceMeter(true);
+
+    private final boolean enabled;
+
+    private ResourceMeter(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param configuration the configuration parameters of the execution request
+     * @return a meter if {@link EnvVars#RESOURCES} is enabled, a disabled meter otherwise
+     */
+    public static ResourceMeter open(ConfigurationParameters configuration) {
+        if (!EnvVars.isEnabled(configuration, EnvVars.RESOURCES)) return DISABLED;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        try {
+            if (threads.isCurrentThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled()) {
+                threads.setThreadCpuTimeEnabled(true);
+            }
+            if (threads instanceof com.sun.management.ThreadMXBean sunThreads
+                    && sunThreads.isThreadAllocatedMemorySupported() && !sunThreads.isThreadAllocatedMemoryEnabled()) {
+                sunThreads.setThreadAllocatedMemoryEnabled(true);
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            // the figures that cannot be enabled are left to 0
+        }
+
+        return ENABLED;
+    }
+
+    public static ResourceMeter disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the resources used so far by the current thread and the JVM, or null if the meter is disabled
+     */
+    public ResourceUsage sample() {
+        if (!enabled) return null;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        long allocatedBytes = threads instanceof com.sun.management.ThreadMXBean sunThreads && sunThreads.isThreadAllocatedMemoryEnabled()
+                ? sunThreads.getCurrentThreadAllocatedBytes()
+                : 0;
+
+        long cpuNanos = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled()
+                ? threads.getCurrentThreadCpuTime()
+                : 0;
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        long compilationMillis = compilation != null && compilation.isCompilationTimeMonitoringSupported()
+                ? compilation.getTotalCompilationTime()
+                : 0;
+
+        long loadedClasses = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+
+        return new ResourceUsage(allocatedBytes, cpuNanos, gcCount, gcMillis * 1_000_000, compilationMillis * 1_000_000, loadedClasses);
+    }
+
+    /**
+     * @param start a sample taken by the current thread
+     * @return the resources used by the current thread and the JVM since the sample, or null if the meter is disabled
+     */
+    public ResourceUsage since(ResourceUsage start) {
+        if (!enabled || start == null) return null;
+
+        return sample().minus(start);
+    }
+}
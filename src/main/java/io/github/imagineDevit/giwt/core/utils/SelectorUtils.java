@@ -1,15 +1,31 @@
 package io.github.imagineDevit.giwt.core.utils;
 
 import io.github.imagineDevit.giwt.core.GiwtTestEngine;
+import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
+import io.github.imagineDevit.giwt.core.context.ClassCtx;
+import io.github.imagineDevit.giwt.core.context.DiscoveryCache;
 import io.github.imagineDevit.giwt.core.descriptors.GiwtClassTestDescriptor;
 import io.github.imagineDevit.giwt.core.descriptors.GiwtMethodTestDescriptor;
 import io.github.imagineDevit.giwt.core.descriptors.GiwtParameterizedMethodTestDescriptor;
+import io.github.imagineDevit.giwt.core.index.TestIndex;
+import io.github.imagineDevit.giwt.core.jfr.DiscoveryEvent;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 
 import java.lang.reflect.Method;
-import java.util.List;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -20,41 +36,304 @@ import java.util.function.Predicate;
  */
 public class SelectorUtils {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SelectorUtils.class);
+
     public static void appendTestInRoot(ClasspathRootSelector selector, EngineDescriptor root, List<Predicate<String>> predicates) {
-        ReflectionUtils
-                .findAllClassesInClasspathRoot(selector.getClasspathRoot(),
-                        GiwtPredicates.hasTestMethods(),
-                        (name) -> predicates.isEmpty() || predicates.stream().anyMatch(p -> p.test(name))
-                ).forEach(testClass -> appendTestInClass(testClass, root));
+        Predicate<String> classNameFilter = (name) -> predicates.isEmpty() || predicates.stream().anyMatch(p -> p.test(name));
+        appendTestInRoot(selector, root, DiscoveryOptions.DEFAULT.withClassNameFilter(classNameFilter));
+    }
+
+    /**
+     * Appends the test classes of a classpath root.
+     * When the classpath root holds an up-to-date {@link TestIndex}, only the indexed classes are loaded;
+     * otherwise, every class of the classpath root is inspected.
+     * In both cases, classes excluded by the class name filter are never loaded.
+     * <p>
+     * When the discovery is parallel, the names of the candidate classes are listed first,
+     * then each class is loaded, inspected and validated on the discovery workers.
+     * </p>
+     */
+    public static void appendTestInRoot(ClasspathRootSelector selector, EngineDescriptor root, DiscoveryOptions options) {
+        Optional<TestIndex> index = findTestIndex(selector.getClasspathRoot(), options);
+
+        if (options.isParallel()) {
+            Optional<List<String>> classNames = index
+                    .map(i -> i.testClassNames().stream().filter(options.classNameFilter()).toList())
+                    .or(() -> ClasspathRoots.findClassNames(selector.getClasspathRoot(), options.classNameFilter()));
+
+            if (classNames.isPresent()) {
+                appendTestInClassesConcurrently(classNames.get(), SelectorUtils::loadTestClass, root, options);
+                return;
+            }
+        }
+
+        List<Class<?>> testClasses = index
+                .map(i -> findIndexedClasses(i, options.classNameFilter()))
+                .orElseGet(() -> ReflectionUtils.findAllClassesInClasspathRoot(selector.getClasspathRoot(), GiwtPredicates.hasTestMethods(), options.classNameFilter()));
+
+        appendTestInClasses(testClasses, root, options);
+    }
+
+    /**
+     * @return the test index of the classpath root, unless it is disabled ({@link EnvVars#TEST_INDEX}) or stale,
+     * that is when some classes of the classpath root were compiled without the
+     * {@link io.github.imagineDevit.giwt.core.index.TestIndexProcessor test index processor}
+     */
+    private static Optional<TestIndex> findTestIndex(URI classpathRoot, DiscoveryOptions options) {
+        if (!options.useTestIndex()) {
+            LOGGER.config(() -> "Test index disabled: scanning all the classes of %s".formatted(classpathRoot));
+            return Optional.empty();
+        }
+
+        Optional<TestIndex> index = TestIndex.of(classpathRoot);
+
+        if (index.isEmpty()) {
+            LOGGER.config(() -> "No test index in %s: scanning all its classes".formatted(classpathRoot));
+            return index;
+        }
+
+        boolean upToDate = ClasspathRoots.findClassNames(classpathRoot, name -> true)
+                .map(classNames -> classNames.stream().allMatch(index.get()::covers))
+                .orElse(true);
+
+        if (!upToDate) {
+            LOGGER.warn(() -> "The test index of %s does not cover all its classes (compiled without annotation processing?): scanning all its classes"
+                    .formatted(classpathRoot));
+            return Optional.empty();
+        }
+
+        LOGGER.config(() -> "Discovering the test classes of %s from its test index".formatted(classpathRoot));
+        return index;
+    }
+
+    /**
+     * Appends the test classes of a package and of its sub-packages.
+     * Classes excluded by the class name filter are never loaded.
+     */
+    public static void appendTestInPackage(PackageSelector selector, EngineDescriptor root, DiscoveryOptions options) {
+        List<Class<?>> testClasses = ReflectionUtils.findAllClassesInPackage(selector.getPackageName(), GiwtPredicates.hasTestMethods(), options.classNameFilter());
+
+        appendTestInClasses(testClasses, root, options);
+    }
+
+    private static void appendTestInClasses(List<Class<?>> testClasses, EngineDescriptor root, DiscoveryOptions options) {
+        if (options.isParallel()) {
+            appendTestInClassesConcurrently(testClasses, Optional::of, root, options);
+        } else {
+            testClasses.forEach(testClass -> appendTestInClass(testClass, root, options));
+        }
+    }
+
+    private static List<Class<?>> findIndexedClasses(TestIndex index, Predicate<String> classNameFilter) {
+        return index.testClassNames()
+                .stream()
+                .filter(classNameFilter)
+                .map(SelectorUtils::loadTestClass)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * @return the class of the given name, if it can be loaded and has test methods
+     */
+    private static Optional<Class<?>> loadTestClass(String className) {
+        return ReflectionUtils.tryToLoadClass(className, ClassLoaderUtils.getDefaultClassLoader())
+                .toOptional()
+                .filter(GiwtPredicates.hasTestMethods());
+    }
+
+    /**
+     * Resolves the candidates into test classes, validates them (and creates their descriptors) concurrently,
+     * then appends the descriptors to the root in the order of the candidates.
+     * As with a sequential discovery, the validation error of the first invalid class (if any) is rethrown
+     * once the descriptors of the classes preceding it have been appended.
+     */
+    private static <T> void appendTestInClassesConcurrently(List<T> candidates, Function<T, Optional<Class<?>>> toTestClass, EngineDescriptor root, DiscoveryOptions options) {
+        int size = candidates.size();
+
+        GiwtClassTestDescriptor[] descriptors = new GiwtClassTestDescriptor[size];
+        RuntimeException[] errors = new RuntimeException[size];
+
+        try (WorkerPool pool = WorkerPool.of(options.parallelism())) {
+            List<Future<?>> tasks = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                int index = i;
+                tasks.add(pool.submit(() -> {
+                    try {
+                        descriptors[index] = toTestClass.apply(candidates.get(index))
+                                .flatMap(testClass -> createClassDescriptor(testClass, root, options))
+                                .orElse(null);
+                    } catch (RuntimeException e) {
+                        errors[index] = e;
+                    }
+                }));
+            }
+
+            tasks.forEach(WorkerPool::join);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) throw errors[i];
+            if (descriptors[i] != null) root.addChild(descriptors[i]);
+        }
     }
 
     public static void appendTestInClass(Class<?> testClass, EngineDescriptor root) {
+        appendTestInClass(testClass, root, DiscoveryOptions.DEFAULT);
+    }
+
+    /**
+     * Appends a selected test class, unless it is excluded by the class name filter (in which case it is not loaded).
+     */
+    public static void appendTestInClass(ClassSelector selector, EngineDescriptor root, DiscoveryOptions options) {
+        if (options.includesClass(selector.getClassName())) {
+            appendTestInClass(selector.getJavaClass(), root, options);
+        }
+    }
+
+    public static void appendTestInClass(Class<?> testClass, EngineDescriptor root, DiscoveryOptions options) {
+        createClassDescriptor(testClass, root, options).ifPresent(root::addChild);
+    }
+
+    /**
+     * Creates the descriptor of a test class, whose test methods are validated unless they are found in the discovery cache.
+     * The discovery of the class is recorded as a {@link DiscoveryEvent}.
+     */
+    private static Optional<GiwtClassTestDescriptor> createClassDescriptor(Class<?> testClass, EngineDescriptor root, DiscoveryOptions options) {
+        DiscoveryEvent event = new DiscoveryEvent();
+        event.begin();
+
+        Optional<GiwtClassTestDescriptor> descriptor = Optional.empty();
+        try {
+            descriptor = createClassDescriptor(testClass, root, options, event);
+            return descriptor;
+        } finally {
+            if (event.shouldCommit()) {
+                event.test(testClass.getName(), null, null);
+                event.testCount = descriptor.map(d -> d.getChildren().size()).orElse(0);
+                event.commit();
+            }
+        }
+    }
+
+    private static Optional<GiwtClassTestDescriptor> createClassDescriptor(Class<?> testClass, EngineDescriptor root, DiscoveryOptions options, DiscoveryEvent event) {
 
         GiwtTestEngine.CONTEXT.add(testClass);
 
+        DiscoveryCache cache = options.cache();
+
+        Optional<List<ClassCtx.TestMethod>> cachedTestMethods = cache.get(testClass);
+
+        if (cachedTestMethods.isPresent()) {
+            event.cached = true;
+            GiwtTestEngine.CONTEXT.get(testClass).testMethods().addAll(cachedTestMethods.get());
+            return Optional.of(new GiwtClassTestDescriptor(testClass, root.getUniqueId()));
+        }
+
         if (GiwtPredicates.isTestClass().test(testClass)) {
             Utils.checkTestNamesDuplication(testClass);
-            root.addChild(new GiwtClassTestDescriptor(testClass, root.getUniqueId()));
-        } else {
-            GiwtTestEngine.CONTEXT.remove(testClass);
+            cache.put(testClass, GiwtTestEngine.CONTEXT.get(testClass).testMethods());
+            return Optional.of(new GiwtClassTestDescriptor(testClass, root.getUniqueId()));
         }
+
+        GiwtTestEngine.CONTEXT.remove(testClass);
+        return Optional.empty();
     }
 
+    /**
+     * Appends a single test method, nested under the descriptor of its test class.
+     * Several methods of the same class must be appended at once with {@link #appendTestInUniqueIds(List, EngineDescriptor, DiscoveryOptions)}.
+     */
     public static void appendTestInMethod(Method method, EngineDescriptor root) {
-        Class<?> testClass = method.getDeclaringClass();
+        appendTestInUniqueIds(List.of(uniqueIdOf(method, root.getUniqueId())), root, DiscoveryOptions.DEFAULT);
+    }
 
-        GiwtTestEngine.CONTEXT.add(testClass);
+    /**
+     * Appends the tests identified by unique ids, such as the ids of the tests which failed during a previous run.
+     * <p>
+     * A unique id may identify a test class, a test method, a parameterized test or a single row of a parameterized test.
+     * The descriptor of each test class is created once, then only the selected descendants are retained.
+     * Unique ids of another engine, of classes excluded by the class name filter, of unknown classes
+     * or of tests that no longer exist are ignored.
+     * </p>
+     */
+    public static void appendTestInUniqueIds(List<UniqueId> uniqueIds, EngineDescriptor root, DiscoveryOptions options) {
+        Map<String, Set<UniqueId>> selectedByClass = new LinkedHashMap<>();
+
+        uniqueIds.stream()
+                .filter(uniqueId -> uniqueId.hasPrefix(root.getUniqueId()) && uniqueId.getSegments().size() > 1)
+                .forEach(uniqueId -> {
+                    UniqueId.Segment segment = uniqueId.getSegments().get(1);
+                    if (segment.getType().equals(GiwtClassTestDescriptor.SEGMENT_TYPE)) {
+                        selectedByClass.computeIfAbsent(segment.getValue(), c -> new HashSet<>()).add(uniqueId);
+                    }
+                });
 
-        if (GiwtPredicates.isMethodTest().test(method)) {
-            root.addChild(new GiwtMethodTestDescriptor(
-                    Utils.getTestName(method),
-                    method,
-                    root.getUniqueId(),
-                    null));
+        ClassLoader classLoader = ClassLoaderUtils.getDefaultClassLoader();
 
-        } else if (GiwtPredicates.isParameterizedMethodTest().test(method)) {
-            root.addChild(new GiwtParameterizedMethodTestDescriptor(method, root.getUniqueId(), GiwtTestEngine.CONTEXT.getParameters(testClass, method)));
+        selectedByClass.keySet().removeIf(className -> !options.includesClass(className));
+
+        selectedByClass.forEach((className, selected) ->
+                ReflectionUtils.tryToLoadClass(className, classLoader).toOptional()
+                        .filter(testClass -> root.findByUniqueId(classUniqueId(testClass, root.getUniqueId())).isEmpty())
+                        .flatMap(testClass -> createClassDescriptor(testClass, root, options))
+                        .ifPresent(descriptor -> {
+                            retainSelected(descriptor, selected);
+                            if (descriptor.getChildren().isEmpty()) {
+                                GiwtTestEngine.CONTEXT.remove(descriptor.getTestClass());
+                            } else {
+                                root.addChild(descriptor);
+                            }
+                        })
+        );
+    }
+
+    /**
+     * Removes the descendants of a descriptor that are neither selected nor the ancestor of a selected descriptor.
+     * The whole subtree of a selected descriptor is retained.
+     */
+    private static void retainSelected(TestDescriptor descriptor, Set<UniqueId> selected) {
+        if (selected.stream().anyMatch(id -> descriptor.getUniqueId().hasPrefix(id))) {
+            return;
         }
+
+        if (descriptor instanceof GiwtParameterizedMethodTestDescriptor pmd) {
+            pmd.retainRows(row -> selected.contains(row.getUniqueId()));
+            return;
+        }
+
+        List.copyOf(descriptor.getChildren()).forEach(child -> {
+            if (selected.stream().anyMatch(id -> id.hasPrefix(child.getUniqueId()))) {
+                retainSelected(child, selected);
+            } else {
+                descriptor.removeChild(child);
+            }
+        });
+    }
+
+    private static UniqueId classUniqueId(Class<?> testClass, UniqueId engineId) {
+        return engineId.append(GiwtClassTestDescriptor.SEGMENT_TYPE, testClass.getName());
+    }
+
+    /**
+     * @param method   a test method
+     * @param engineId the unique id of the engine
+     * @return the unique id of the descriptor of the test method, in the descriptor of the class declaring it
+     */
+    public static UniqueId uniqueIdOf(Method method, UniqueId engineId) {
+        return uniqueIdOf(method.getDeclaringClass(), method, engineId);
+    }
+
+    /**
+     * @param testClass the test class, which declares or inherits the test method
+     * @param method    a test method
+     * @param engineId  the unique id of the engine
+     * @return the unique id of the descriptor of the test method, in the descriptor of the given test class
+     */
+    public static UniqueId uniqueIdOf(Class<?> testClass, Method method, UniqueId engineId) {
+        String name = AnnotationSupport.isAnnotated(method, ParameterizedTest.class) ? method.getName() : Utils.getTestName(method);
+        return classUniqueId(testClass, engineId).append(GiwtMethodTestDescriptor.SEGMENT_TYPE, name);
     }
 
 }
@@ -0,0 +1,168 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A persistent store of the durations of the test classes and tests, stored in the giwt build directory.
+ * <p>
+ * Durations are keyed by the unique id of the test descriptors and smoothed across runs
+ * (each new measure is averaged with the stored one).
+ * They are used to execute test classes concurrently longest first, which keeps the slowest classes
+ * from starting last and stretching the whole run.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @see EnvVars#TIMINGS
+ * @since 0.1.4
+ */
+public final class TimingStore {
+
+    public static final String FILE = "timings";
+
+    private static final String VERSION = "1";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final TimingStore DISABLED = new TimingStore(null, Map.of());
+
+    private final Path file;
+
+    private final Map<String, Long> durations;
+
+    private final AtomicBoolean modified = new AtomicBoolean(false);
+
+    private TimingStore(Path file, Map<String, Long> durations) {
+        this.file = file;
+        this.durations = durations;
+    }
+
+    /**
+     * Opens the store of the giwt build directory when {@link EnvVars#TIMINGS} is enabled.
+     *
+     * @param configuration the configuration parameters of the execution request
+     * @return the store, or a disabled store
+     */
+    public static TimingStore open(ConfigurationParameters configuration) {
+        if (!EnvVars.isEnabled(configuration, EnvVars.TIMINGS)) return DISABLED;
+
+        // no build directory: durations are not recorded
+        return Utils.giwtFile(FILE).map(TimingStore::load).orElse(DISABLED);
+    }
+
+    public static TimingStore disabled() {
+        return DISABLED;
+    }
+
+    public static TimingStore load(Path file) {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+
+        if (Files.isRegularFile(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                if (VERSION.equals(reader.readLine())) {
+                    reader.lines()
+                            .map(line -> line.split(SEPARATOR))
+                            .filter(columns -> columns.length == 2)
+                            .forEach(columns -> durations.put(columns[0], Long.parseLong(columns[1])));
+                }
+            } catch (IOException | RuntimeException e) {
+                // a corrupted store is ignored, and overwritten on save
+                durations.clear();
+            }
+        }
+
+        return new TimingStore(file, durations);
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Records the duration of an executed test descriptor.
+     *
+     * @param uniqueId the unique id of the test descriptor
+     * @param nanos    the duration, in nanoseconds
+     */
+    public void record(UniqueId uniqueId, long nanos) {
+        if (!isEnabled()) return;
+
+        durations.merge(uniqueId.toString(), nanos, (previous, current) -> (previous + current) / 2);
+        modified.set(true);
+    }
+
+    /**
+     * Estimates the duration of a test descriptor.
+     * The estimate of a container is the sum of the estimates of its children when all of them are known
+     * (so that it follows the tests actually selected), and its recorded duration otherwise.
+     *
+     * @param descriptor the test descriptor
+     * @return the estimated duration in nanoseconds, or an empty optional if it is unknown
+     */
+    public OptionalLong estimate(TestDescriptor descriptor) {
+        Set<? extends TestDescriptor> children = descriptor.getChildren();
+
+        if (!children.isEmpty()) {
+            long sum = 0;
+            for (TestDescriptor child : children) {
+                OptionalLong estimate = estimate(child);
+                if (estimate.isEmpty()) return recorded(descriptor);
+                sum += estimate.getAsLong();
+            }
+            return OptionalLong.of(sum);
+        }
+
+        return recorded(descriptor);
+    }
+
+    /**
+     * Sorts test descriptors longest first.
+     * Descriptors without a known duration come first, since any of them may be the longest.
+     *
+     * @param descriptors the test descriptors
+     * @param <T>         the type of the descriptors
+     * @return the sorted descriptors
+     */
+    public <T extends TestDescriptor> List<T> longestFirst(Collection<T> descriptors) {
+        if (!isEnabled() || durations.isEmpty()) return List.copyOf(descriptors);
+
+        Map<T, Long> estimates = new HashMap<>();
+        descriptors.forEach(d -> estimates.put(d, estimate(d).orElse(Long.MAX_VALUE)));
+
+        List<T> sorted = new ArrayList<>(descriptors);
+        // stable sort: descriptors with the same estimate keep their discovery order
+        sorted.sort(Comparator.comparing(estimates::get, Comparator.reverseOrder()));
+        return sorted;
+    }
+
+    /**
+     * Writes the store, if new durations have been recorded.
+     *
+     * @see Utils#writeAtomically(Path, Utils.FileContent)
+     */
+    public void save() {
+        if (!isEnabled() || !modified.compareAndSet(true, false)) return;
+
+        Utils.writeAtomically(file, writer -> {
+            writer.write(VERSION + "\n");
+            for (Map.Entry<String, Long> e : new TreeMap<>(durations).entrySet()) {
+                writer.write(e.getKey() + SEPARATOR + e.getValue() + "\n");
+            }
+        });
+    }
+
+    private OptionalLong recorded(TestDescriptor descriptor) {
+        Long duration = durations.get(descriptor.getUniqueId().toString());
+        return duration == null ? OptionalLong.empty() : OptionalLong.of(duration);
+    }
+}
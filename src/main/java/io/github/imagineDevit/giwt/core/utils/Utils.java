@@ -3,13 +3,24 @@ package io.github.imagineDevit.giwt.core.utils;
 
 import io.github.imagineDevit.giwt.core.GiwtTestEngine;
 import io.github.imagineDevit.giwt.core.TestParameters;
+import io.github.imagineDevit.giwt.core.annotations.Benchmark;
 import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
 import io.github.imagineDevit.giwt.core.annotations.Test;
 import io.github.imagineDevit.giwt.core.context.ClassCtx;
+import io.github.imagineDevit.giwt.core.context.ClassMetadata;
 import io.github.imagineDevit.giwt.core.errors.DuplicateTestNameException;
 import io.github.imagineDevit.giwt.core.statements.StmtMsg;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -29,11 +40,24 @@ public abstract class Utils {
 
     public static final String DASH = bold("-".repeat(MAX_LENGTH));
 
+    public static final String TARGET = "target";
+    public static final String BUILD = "build";
+    public static final String GIWT = "giwt";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Utils.class);
+
 
     public static String getTestName(Method method) {
+        return ClassMetadata.of(method.getDeclaringClass()).displayName(method);
+    }
+
+    public static String computeTestName(Method method) {
         return Optional.ofNullable(method.getAnnotation(Test.class))
                 .map(Test::value)
                 .filter(s -> !s.isEmpty())
+                .or(() -> Optional.ofNullable(method.getAnnotation(Benchmark.class))
+                        .map(Benchmark::value)
+                        .filter(s -> !s.isEmpty()))
                 .or(() -> Optional.ofNullable(method.getAnnotation(ParameterizedTest.class))
                         .map(ParameterizedTest::name)
                         .filter(s -> !s.isEmpty()))
@@ -164,4 +188,98 @@ public abstract class Utils {
                 .toList();
     }
 
+    /**
+     * Creates (if needed) the <strong>giwt</strong> directory of the build directory ({@code target}, {@code build}
+     * or the directory given by {@link EnvVars#BUILD_DIR}).
+     *
+     * @return the path of the giwt directory
+     * @throws IOException if there is no build directory or the giwt directory cannot be created
+     */
+    public static String createGiwtDir() throws IOException {
+        File target = new File(TARGET);
+        File build = new File(BUILD);
+        Path giwt;
+        String result;
+
+        if (target.exists() && target.isDirectory()) {
+            giwt = new File(target, GIWT).toPath();
+            result = TARGET + "/" + GIWT;
+        } else if (build.exists() && build.isDirectory()) {
+            giwt = new File(build, GIWT).toPath();
+            result = BUILD + "/" + GIWT;
+        } else {
+            String buildDir = System.getenv(EnvVars.BUILD_DIR);
+            if (buildDir != null) {
+                giwt = new File(buildDir.trim(), GIWT).toPath();
+                result = buildDir.trim() + "/" + GIWT;
+            } else {
+                throw new IOException("""
+                        Failed to generate giwt directory.
+                        It seems that the target or build directory does not exist.
+                        Please consider to specify environment variable : %s to specify the build directory.
+                        """.formatted(italic(blue(EnvVars.BUILD_DIR))));
+            }
+        }
+
+        if (!Files.exists(giwt)) {
+            Files.createDirectory(giwt);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param fileName the name of a file of the <strong>giwt</strong> directory
+     * @return the path of the file, or an empty optional if there is no build directory
+     * @see #createGiwtDir()
+     */
+    public static Optional<Path> giwtFile(String fileName) {
+        try {
+            return Optional.of(Path.of(createGiwtDir(), fileName));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes an optional file of the <strong>giwt</strong> directory (cache, metrics...).
+     * <p>
+     * The content is written to a temporary file of the same directory, which then atomically replaces the file,
+     * so that concurrent runs (e.g. forked JVMs) never read a partially written file.
+     * The file being optional, a failed write is logged and does not fail the run; the temporary file is deleted.
+     * </p>
+     *
+     * @param file    the file
+     * @param content the writer of the content
+     * @return true if the file has been written
+     */
+    public static boolean writeAtomically(Path file, FileContent content) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                content.writeTo(writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn(e, () -> "Failed to write %s".formatted(file));
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // nothing more can be done
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The content of a file written by {@link #writeAtomically(Path, FileContent)}
+     */
+    @FunctionalInterface
+    public interface FileContent {
+        void writeTo(Writer writer) throws IOException;
+    }
 }
@@ -0,0 +1,215 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The pool of workers on which test classes and parameterized rows are executed concurrently.
+ * <p>
+ * By default, workers are platform threads of a dedicated fork-join pool.
+ * When {@link EnvVars#VIRTUAL_THREADS} is enabled and the running JDK supports them,
+ * each task runs on a new virtual thread, never reused by another task, the number of tasks running at the same time
+ * being capped by a semaphore.
+ * On JDKs without virtual threads, the pool falls back to platform threads.
+ * </p>
+ * <p>
+ * The {@link #forTestBodies(ConfigurationParameters) test bodies pool} runs each test body on a new virtual thread,
+ * so that tests blocked on I/O do not hold a platform thread, and that thread locals set by a body are not seen by the next one.
+ * Without virtual threads, bodies run on the calling thread.
+ * </p>
+ *
+ * @author Henri Joel SEDJAME
+ * @since 0.1.4
+ */
+public final class WorkerPool implements AutoCloseable {
+
+    private static final Optional<Supplier<ExecutorService>> VIRTUAL_THREAD_EXECUTOR = lookupVirtualThreadExecutor();
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 256;
+
+    private static final WorkerPool DIRECT = new WorkerPool(null, null);
+
+    private final ExecutorService executor;
+
+    private final Semaphore permits;
+
+    private WorkerPool(ExecutorService executor, Semaphore permits) {
+        this.executor = executor;
+        this.permits = permits;
+    }
+
+    /**
+     * Creates a worker pool running at most {@code parallelism} tasks at the same time.
+     *
+     * @param configuration the configuration parameters of the execution request
+     * @param parallelism   the maximum number of tasks running at the same time
+     * @return the worker pool
+     */
+    public static WorkerPool create(ConfigurationParameters configuration, int parallelism) {
+        if (EnvVars.isEnabled(configuration, EnvVars.VIRTUAL_THREADS)) {
+            return VIRTUAL_THREAD_EXECUTOR
+                    .map(executor -> new WorkerPool(executor.get(), new Semaphore(parallelism)))
+                    .orElseGet(() -> platform(parallelism));
+        }
+        return platform(parallelism);
+    }
+
+    /**
+     * Creates the pool on which each test body runs on its own virtual thread,
+     * at most {@link EnvVars#VIRTUAL_THREADS_MAX_CONCURRENCY} of them at the same time.
+     *
+     * @param configuration the configuration parameters of the execution request
+     * @return the pool, or a direct pool running the bodies on the calling thread
+     * if {@link EnvVars#VIRTUAL_THREADS} is disabled or the JDK does not support virtual threads
+     */
+    public static WorkerPool forTestBodies(ConfigurationParameters configuration) {
+        if (!EnvVars.isEnabled(configuration, EnvVars.VIRTUAL_THREADS)) return DIRECT;
+
+        return VIRTUAL_THREAD_EXECUTOR
+                .map(executor -> new WorkerPool(executor.get(), new Semaphore(maxConcurrency(configuration))))
+                .orElse(DIRECT);
+    }
+
+    /**
+     * @param configuration the configuration parameters of the execution request
+     * @return the default number of test classes executed at the same time:
+     * the {@link EnvVars#VIRTUAL_THREADS_MAX_CONCURRENCY maximum concurrency of virtual threads} when they are used,
+     * the number of available processors otherwise
+     */
+    public static int defaultParallelism(ConfigurationParameters configuration) {
+        return EnvVars.isEnabled(configuration, EnvVars.VIRTUAL_THREADS) && virtualThreadsAvailable()
+                ? maxConcurrency(configuration)
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Creates a worker pool of {@code parallelism} platform threads.
+     *
+     * @param parallelism the number of workers
+     * @return the worker pool
+     */
+    public static WorkerPool of(int parallelism) {
+        return platform(parallelism);
+    }
+
+    /**
+     * @return true if the running JDK supports virtual threads
+     */
+    public static boolean virtualThreadsAvailable() {
+        return VIRTUAL_THREAD_EXECUTOR.isPresent();
+    }
+
+    /**
+     * Submits a task. When the pool is capped by a semaphore, this method blocks until a permit is available.
+     *
+     * @param task the task
+     * @return the future of the task
+     */
+    public Future<?> submit(Runnable task) {
+        if (permits == null) {
+            return CompletableFuture.runAsync(task, executor);
+        }
+
+        permits.acquireUninterruptibly();
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a task on a worker, or on the calling thread if the pool is direct, and waits for it to complete.
+     * The failure of the task, if any, is rethrown as is.
+     *
+     * @param task the task
+     */
+    public void run(Runnable task) {
+        if (executor == null) {
+            task.run();
+        } else {
+            join(submit(task));
+        }
+    }
+
+    /**
+     * Waits for a task to complete and rethrows its failure, if any, as is
+     * (unlike {@link ForkJoinTask#join()}, which may rethrow a copy of it).
+     *
+     * @param future the future of the task
+     */
+    public static void join(Future<?> future) {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtils.throwAsUncheckedException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) executor.shutdown();
+    }
+
+    private static int maxConcurrency(ConfigurationParameters configuration) {
+        return Math.max(1, EnvVars.intValue(configuration, EnvVars.VIRTUAL_THREADS_MAX_CONCURRENCY, DEFAULT_MAX_CONCURRENCY));
+    }
+
+    private static WorkerPool platform(int parallelism) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger counter = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(
+                parallelism,
+                p -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                    thread.setName("giwt-worker-" + counter.incrementAndGet());
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                },
+                null,
+                false
+        );
+        return new WorkerPool(pool, null);
+    }
+
+    /**
+     * Looks up {@code Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("giwt-virtual-", 1).factory())} reflectively,
+     * the library being compiled for Java 17.
+     * A cached thread pool is not used, as it would reuse the virtual threads, and their thread locals, across tasks.
+     */
+    private static Optional<Supplier<ExecutorService>> lookupVirtualThreadExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "giwt-virtual-", 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return Optional.of(() -> {
+                try {
+                    return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+                } catch (ReflectiveOperationException e) {
+                    throw ExceptionUtils.throwAsUncheckedException(e);
+                }
+            });
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // no virtual threads (JDK < 21, or preview features disabled)
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+<div class="accordion-item">
+    <h2 class="accordion-header">
+        <button class="accordion-button bg-light" type="button"
+                data-bs-toggle="collapse"
+                data-bs-target="#collapse${classIndex}"
+                aria-expanded="false"
+                aria-controls="collapse${classIndex}">
+
+            <div class="row justify-content-between w-100 align-items-center p-1 px-4">
+                <div class="col-6 font-monospace"> ${classReport.name}</div>
+                <div class="col-1 text-center text-black">
+                    <div class="fs-4"><strong>${classReport.totalCount}</strong></div>
+                    <div class="fs-6 fst-italic font-monospace">tests</div>
+                </div>
+
+                <div class="col-1 text-center text-success">
+                    <div class="fs-5"><strong>${classReport.successCount}</strong></div>
+                    <div class="fs-6 fst-italic font-monospace">passed</div>
+                </div>
+                <div class="col-1 text-center text-danger">
+                    <div class="fs-5"><strong>${classReport.failureCount}</strong></div>
+                    <div class="fs-6 fst-italic font-monospace">failed</div>
+                </div>
+                <div class="col-1 text-center text-warning">
+                    <div class="fs-5"><strong>${classReport.skippedCount}</strong></div>
+                    <div class="fs-6 fst-italic font-monospace">skipped</div>
+                </div>
+                <div class="col-1 text-center text-secondary">
+                    <div class="fs-6"><strong>${classReport.duration}</strong></div>
+                    <div class="fs-6 fst-italic font-monospace">time</div>
+                </div>
+
+            </div>
+        </button>
+    </h2>
+    <div id="collapse${classIndex}" class="accordion-collapse collapse"
+         data-bs-parent="#classReport">
+        <div class="accordion-body">
+            <div class="container text-center w-80 p-3">
+                <#if classReport.phaseDurations?has_content>
+                    <div class="text-secondary font-monospace fs-6 mb-3">
+                        <#list classReport.phaseDurations as phase>${phase.phase} ${phase.duration}<#sep> &middot; </#list>
+                    </div>
+                </#if>
+                <#if classReport.resources??>
+                    <div class="text-secondary font-monospace fs-6 mb-3">
+                        <#list classReport.resources as figure>${figure.name} ${figure.value}<#sep> &middot; </#list>
+                    </div>
+                </#if>
+                <div class="accordion" id="testReport">
+                    <#list classReport.testReports as testReport>
+                        <div class="accordion-item">
+                            <h2 class="accordion-header">
+                                <button class="accordion-button bg-light" type="button"
+                                        data-bs-toggle="collapse"
+                                        data-bs-target="#collapse${classIndex}${testReport?counter}"
+                                        aria-expanded="false"
+                                        aria-controls="collapse${classIndex}${testReport?counter}">
+
+                                    <div class="row  w-100 align-items-center p-1 px-4">
+                                        <div class=" col font-monospace fs-6">
+                                            ${testReport.name}
+                                        </div>
+                                        <div class=" col font-monospace ${testReport.statusColor} fs-6"> ${testReport.status}</div>
+                                        <div class=" col-2 font-monospace text-secondary fs-6"> ${testReport.duration}</div>
+                                    </div>
+
+                                </button>
+                            </h2>
+                            <div id="collapse${classIndex}${testReport?counter}"
+                                 class="accordion-collapse collapse"
+                                 data-bs-parent="#testReport">
+                                <div class="accordion-body">
+                                    <#if testReport.benchmark??>
+                                        <table class="table table-sm font-monospace fs-6 mb-2">
+                                            <tr><#list testReport.benchmark as figure><th class="text-secondary">${figure.name}</th></#list></tr>
+                                            <tr><#list testReport.benchmark as figure><td>${figure.value}</td></#list></tr>
+                                        </table>
+                                    </#if>
+                                    <#if testReport.resources??>
+                                        <div class="text-secondary font-monospace fs-6 mb-2 text-end">
+                                            <#list testReport.resources as figure>${figure.name} ${figure.value}<#sep> &middot; </#list>
+                                        </div>
+                                    </#if>
+                                    <div class="text-start">
+                                        <#list testReport.descriptions as desc>
+                                            <div class="row">
+                                                <div class="col-1"><strong>${desc.prefix}</strong>
+                                                </div>
+                                                <div class="col-9 font-monospace">${desc.label}</div>
+                                                <div class="col-2 font-monospace text-secondary text-end">${desc.duration!""}</div>
+                                            </div>
+                                        </#list>
+                                    </div>
+
+                                    <#if testReport.failureReason??>
+
+                                        <div class=" m-3 rounded  bg-danger text-center font-monospace align-items-center">
+                                            <p class="text-white">${testReport.failureReason} </p>
+                                        </div>
+
+                                        <div class="container">
+
+                                            <div class="d-flex justify-content-center align-content-center">
+                                                <button id="showStack"
+                                                        class="btn btn-outline-danger"
+                                                        onclick=showStackTrace("stack${classIndex}${testReport?counter}")>
+                                                    show stacktrace
+                                                </button>
+                                                <button id="hideStack"
+                                                        class="btn btn-light border berder-black text-black"
+                                                        onclick=hideStacktrace("stack${classIndex}${testReport?counter}")
+                                                        style="display: none"> hide stacktrace
+                                                </button>
+                                            </div>
+
+                                            <div class="container text-start text-danger rounded border border-danger p-2 mt-3"
+                                                 id="stack${classIndex}${testReport?counter}"
+                                                 style="display: none">
+                                                <#list testReport.stacktraces as trace>
+                                                    <p><#if trace?starts_with("at ")>&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</#if>${trace}</p>
+                                                </#list>
+                                            </div>
+
+                                        </div>
+                                    </#if>
+                                </div>
+                            </div>
+                        </div>
+                    </#list>
+
+                </div>
+            </div>
+        </div>
+    </div>
+
+</div>
@@ -0,0 +1,67 @@
+
+            </div>
+        </div>
+
+        <div class="order-first">
+            <div class="container mt-3 p-3 bg-light w-75 border border-primary rounded">
+                <h2 class="text-primary text-center "> TEST SUMMARY </h2>
+            </div>
+
+            <div class="container px-4 text-center w-75 p-3">
+                <div class="row gx-5 justify-content-between align-items-center">
+                    <div class="col-7 bg-light rounded p-3">
+                        <div class="row">
+                            <div class="col">
+                                <h3>
+                                    ${report.totalCount}
+                                </h3>
+                                <p class="fs-1fst-italic font-monospace">tests</p>
+                            </div>
+                            <div class="col text-danger">
+                                <h3>
+                                    ${report.failureCount}
+                                </h3>
+                                <p class="fs-1fst-italic font-monospace">failures</p>
+                            </div>
+                            <div class="col text-warning">
+                                <h3>
+                                    ${report.skippedCount}
+                                </h3>
+                                <p class="fs-1fst-italic font-monospace">skipped</p>
+                            </div>
+                        </div>
+                    </div>
+                    <div class="col-4 bg-success rounded p-3 align-items-center">
+                        <div class="text-white">
+                            <h2 class="fs-2">${report.successRate}%</h2>
+                            <p class="fs-1fst-italic font-monospace">successful</p>
+                        </div>
+                    </div>
+                </div>
+            </div>
+
+            <#if report.slowestTests?has_content>
+                <div class="container px-4 w-75 p-3">
+                    <h5 class="text-secondary text-center">SLOWEST TESTS</h5>
+                    <table class="table table-sm font-monospace">
+                        <tbody>
+                        <#list report.slowestTests as test>
+                            <tr>
+                                <td>${test.className}</td>
+                                <td>${test.name}</td>
+                                <td class="text-end">${test.duration}</td>
+                            </tr>
+                        </#list>
+                        </tbody>
+                    </table>
+                </div>
+            </#if>
+        </div>
+
+    </div>
+
+</div>
+
+
+</body>
+</html>
\ No newline at end of file
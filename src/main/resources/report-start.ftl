@@ -0,0 +1,31 @@
+<!DOCTYPE html>
+<html lang="en">
+<head>
+    <meta charset="UTF-8">
+    <link href="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0-alpha3/dist/css/bootstrap.min.css" rel="stylesheet"
+          integrity="sha384-KK94CHFLLe+nY2dmCWGMq91rCGa5gtU4mk92HdvYe+M/SXH301p5ILy+dN9+nJOZ" crossorigin="anonymous">
+    <script src="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0-alpha3/dist/js/bootstrap.bundle.min.js"
+            integrity="sha384-ENjdO4Dr2bkBIFxQpeoTz1HIcje39Wm4jDKdf19U8gI4ddQ3GYNS7NTKfAdVQSZe"
+            crossorigin="anonymous"></script>
+    <title>Test Report</title>
+    <script>
+        function showStackTrace(id) {
+            document.getElementById(id).style.display = "block";
+            document.getElementById("showStack").style.display = "none";
+            document.getElementById("hideStack").style.display = "block"
+        }
+
+        function hideStacktrace(id) {
+            document.getElementById(id).style.display = "none";
+            document.getElementById("showStack").style.display = "block";
+            document.getElementById("hideStack").style.display = "none"
+        }
+    </script>
+</head>
+<body>
+<div class="container">
+    <div class="mx-auto d-flex flex-column">
+
+        <div class="container text-center w-80 p-3">
+            <div class="accordion" id="classReport">
+
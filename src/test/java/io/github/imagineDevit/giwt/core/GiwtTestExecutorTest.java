@@ -0,0 +1,336 @@
+package io.github.imagineDevit.giwt.core;
+
+import io.github.imagineDevit.giwt.core.annotations.Benchmark;
+import io.github.imagineDevit.giwt.core.annotations.ParameterSource;
+import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
+import io.github.imagineDevit.giwt.core.lib.TestCase;
+import io.github.imagineDevit.giwt.core.lib.TestExecutor;
+import io.github.imagineDevit.giwt.core.report.BenchmarkResult;
+import io.github.imagineDevit.giwt.core.report.TestCaseReport;
+import io.github.imagineDevit.giwt.core.utils.EnvVars;
+import io.github.imagineDevit.giwt.core.utils.SelectorUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings({"unused", "rawtypes"})
+class GiwtTestExecutorTest {
+
+    static final Set<String> THREADS = ConcurrentHashMap.newKeySet();
+
+    static final AtomicInteger PULLED_ROWS = new AtomicInteger();
+
+    static final CountDownLatch LATCH = new CountDownLatch(2);
+
+    @AfterEach
+    void tearDown() {
+        THREADS.clear();
+    }
+
+    @Test
+    void executeSequentially() {
+        var listener = new RecordingListener();
+
+        execute(listener, Map.of(), FirstTestClass.class, SecondTestClass.class);
+
+        assertEquals(List.of("engine", "FirstTestClass", "test1", "SecondTestClass", "test2"), listener.started);
+        assertEquals(5, listener.successful.size());
+        assertEquals(1, THREADS.size());
+    }
+
+    @Test
+    void executeConcurrently() {
+        var listener = new RecordingListener();
+
+        execute(listener, Map.of(EnvVars.PARALLEL_EXECUTION, "true", EnvVars.PARALLELISM, "2"),
+                LatchedTestClass1.class, LatchedTestClass2.class);
+
+        assertEquals(5, listener.successful.size());
+        assertTrue(listener.failed.isEmpty());
+        assertEquals(2, THREADS.size());
+        assertTrue(THREADS.stream().allMatch(t -> t.startsWith("giwt-worker-")));
+    }
+
+    @Test
+    void executeParameterizedTest() {
+        var listener = new RecordingListener();
+
+        execute(listener, Map.of(), ParameterizedTestClass.class);
+
+        assertEquals(List.of("engine", "ParameterizedTestClass", "sum", "1 + 2 = 3", "2 + 2 = 4"), listener.started);
+        assertTrue(listener.failed.isEmpty());
+    }
+
+    @Test
+    void executeStreamedParameterizedTest() {
+        var listener = new RecordingListener();
+        var root = new EngineDescriptor(UniqueId.forEngine(GiwtTestEngine.ENGINE_ID), "engine");
+
+        SelectorUtils.appendTestInClass(StreamedTestClass.class, root);
+
+        assertEquals(0, PULLED_ROWS.get());
+
+        new TestExecutor().execute(new ExecutionRequest(root, listener, new Parameters(Map.of())), root);
+
+        assertEquals(3, PULLED_ROWS.get());
+        assertEquals(List.of("row 0", "row 1", "row 2"), listener.registered);
+        assertEquals(List.of("engine", "StreamedTestClass", "test", "row 0", "row 1", "row 2"), listener.started);
+        assertTrue(listener.failed.isEmpty());
+    }
+
+    @Test
+    void executeAStaticStreamedParameterizedTestTwice() {
+        var root = new EngineDescriptor(UniqueId.forEngine(GiwtTestEngine.ENGINE_ID), "engine");
+        SelectorUtils.appendTestInClass(StaticStreamedTestClass.class, root);
+
+        for (int i = 0; i < 2; i++) {
+            var listener = new RecordingListener();
+
+            new TestExecutor().execute(new ExecutionRequest(root, listener, new Parameters(Map.of())), root);
+
+            assertEquals(List.of("row 0", "row 1"), listener.registered);
+            assertTrue(listener.failed.isEmpty());
+        }
+    }
+
+    @Test
+    void executeParameterizedRowsConcurrently() {
+        var listener = new RecordingListener();
+
+        execute(listener, Map.of(), ConcurrentRowsTestClass.class);
+
+        assertEquals(List.of("engine", "ConcurrentRowsTestClass", "test", "row 0", "row 1", "row 2", "row 3"), listener.started);
+        assertEquals(List.of("row 0", "row 1", "row 2", "row 3", "test", "ConcurrentRowsTestClass", "engine"), listener.successful);
+        assertTrue(THREADS.size() > 1);
+        assertTrue(THREADS.stream().allMatch(t -> t.startsWith("giwt-worker-")));
+    }
+
+    @Test
+    void executeFailingParameterizedRowsConcurrently() {
+        var listener = new RecordingListener();
+
+        var error = assertThrows(IllegalStateException.class,
+                () -> execute(listener, Map.of(), FailingConcurrentRowsTestClass.class));
+
+        assertEquals(List.of("row 0", "row 1", "row 2", "row 3"), listener.successful);
+        assertEquals(List.of("test"), listener.failed);
+        assertEquals(3, error.getSuppressed().length);
+    }
+
+    @Test
+    void executeBenchmark() {
+        var listener = new RecordingListener();
+
+        execute(listener, Map.of(), BenchmarkTestClass.class);
+
+        assertTrue(listener.failed.isEmpty());
+        assertEquals(1, BenchmarkTestClass.GIVEN_RUNS.get());
+        // (2 warmup + 3 measured iterations) x 4 invocations
+        assertEquals(20, BenchmarkTestClass.WHEN_RUNS.get());
+        assertEquals(20, BenchmarkTestClass.LAST_RESULT.get());
+
+        var result = BenchmarkTestClass.RESULT.get();
+        assertEquals(3, result.iterations());
+        assertEquals(4, result.batchSize());
+        assertTrue(result.minNanos() <= result.p50Nanos() && result.p50Nanos() <= result.maxNanos());
+    }
+
+    static void execute(EngineExecutionListener listener, Map<String, String> parameters, Class<?>... testClasses) {
+        var root = new EngineDescriptor(UniqueId.forEngine(GiwtTestEngine.ENGINE_ID), "engine");
+        Arrays.stream(testClasses).forEach(c -> SelectorUtils.appendTestInClass(c, root));
+        new TestExecutor().execute(new ExecutionRequest(root, listener, new Parameters(parameters)), root);
+    }
+
+    private static void await() {
+        LATCH.countDown();
+        try {
+            assertTrue(LATCH.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class FirstTestClass {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test1(TestCase<Object, Object> tc) {
+            THREADS.add(Thread.currentThread().getName());
+        }
+    }
+
+    public static class SecondTestClass {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test2(TestCase<Object, Object> tc) {
+            THREADS.add(Thread.currentThread().getName());
+        }
+    }
+
+    public static class ParameterizedTestClass {
+        @ParameterizedTest(name = "{0} + {1} = {2}", source = "sums")
+        void sum(TestCase<Object, Object> tc, Integer a, int b, Integer expected) {
+            assertEquals(expected, a + b);
+        }
+
+        @ParameterSource
+        TestParameters<TestParameters.Parameter.P3<Integer, Integer, Integer>> sums() {
+            return TestParameters.of(
+                    TestParameters.Parameter.P3.of(1, 2, 3),
+                    TestParameters.Parameter.P3.of(2, 2, 4)
+            );
+        }
+    }
+
+    public static class StreamedTestClass {
+        @ParameterizedTest(name = "row {0}", source = "rows")
+        void test(TestCase<Object, Object> tc, Integer row) {
+        }
+
+        @ParameterSource
+        TestParameters<TestParameters.Parameter.P1<Integer>> rows() {
+            return TestParameters.of(
+                    IntStream.range(0, 3).peek(i -> PULLED_ROWS.incrementAndGet()).mapToObj(TestParameters.Parameter.P1::of)
+            );
+        }
+    }
+
+    public static class StaticStreamedTestClass {
+        @ParameterizedTest(name = "row {0}", source = "rows")
+        void test(TestCase<Object, Object> tc, Integer row) {
+        }
+
+        @ParameterSource
+        static TestParameters<TestParameters.Parameter.P1<Integer>> rows() {
+            return TestParameters.of(IntStream.range(0, 2).mapToObj(TestParameters.Parameter.P1::of));
+        }
+    }
+
+    public static class ConcurrentRowsTestClass {
+
+        private final CountDownLatch latch = new CountDownLatch(4);
+
+        @ParameterizedTest(name = "row {0}", source = "rows", parallelism = 4)
+        void test(TestCase<Object, Object> tc, Integer row) throws InterruptedException {
+            THREADS.add(Thread.currentThread().getName());
+            latch.countDown();
+            // rows finish in reverse order, yet must be reported in row order
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Thread.sleep(10L * (3 - row));
+        }
+
+        @ParameterSource
+        TestParameters<TestParameters.Parameter.P1<Integer>> rows() {
+            return TestParameters.of(
+                    TestParameters.Parameter.P1.of(0),
+                    TestParameters.Parameter.P1.of(1),
+                    TestParameters.Parameter.P1.of(2),
+                    TestParameters.Parameter.P1.of(3)
+            );
+        }
+    }
+
+    public static class FailingConcurrentRowsTestClass {
+
+        @ParameterizedTest(name = "row {0}", source = "rows", parallelism = 2)
+        void test(TestCase<Object, Object> tc, Integer row) {
+        }
+
+        @io.github.imagineDevit.giwt.core.annotations.AfterEach
+        void afterEach() {
+            throw new IllegalStateException("afterEach failed");
+        }
+
+        @ParameterSource
+        TestParameters<TestParameters.Parameter.P1<Integer>> rows() {
+            return TestParameters.of(IntStream.range(0, 4).mapToObj(TestParameters.Parameter.P1::of));
+        }
+    }
+
+    public static class BenchmarkTestClass {
+
+        static final AtomicInteger GIVEN_RUNS = new AtomicInteger();
+        static final AtomicInteger WHEN_RUNS = new AtomicInteger();
+        static final AtomicInteger LAST_RESULT = new AtomicInteger();
+        static final AtomicReference<BenchmarkResult> RESULT = new AtomicReference<>();
+
+        @Benchmark(warmupIterations = 2, iterations = 3, batchSize = 4)
+        void benchmark(TestCase<Object, Object> tc) {
+            tc.timed(TestCaseReport.TestReport.Phase.GIVEN, GIVEN_RUNS::incrementAndGet);
+            int result = tc.timed(TestCaseReport.TestReport.Phase.WHEN, WHEN_RUNS::incrementAndGet);
+            LAST_RESULT.set(result);
+            RESULT.set(tc.report.getBenchmarkResult());
+        }
+    }
+
+    public static class LatchedTestClass1 {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test1(TestCase<Object, Object> tc) {
+            THREADS.add(Thread.currentThread().getName());
+            await();
+        }
+    }
+
+    public static class LatchedTestClass2 {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test2(TestCase<Object, Object> tc) {
+            THREADS.add(Thread.currentThread().getName());
+            await();
+        }
+    }
+
+    static class RecordingListener implements EngineExecutionListener {
+        final List<String> registered = new CopyOnWriteArrayList<>();
+        final List<String> started = new CopyOnWriteArrayList<>();
+        final List<String> successful = new CopyOnWriteArrayList<>();
+        final List<String> failed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+            registered.add(testDescriptor.getDisplayName());
+        }
+
+        @Override
+        public void executionStarted(TestDescriptor testDescriptor) {
+            started.add(testDescriptor.getDisplayName());
+        }
+
+        @Override
+        public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult result) {
+            if (result.getStatus() == TestExecutionResult.Status.SUCCESSFUL) successful.add(testDescriptor.getDisplayName());
+            else failed.add(testDescriptor.getDisplayName());
+        }
+    }
+
+    record Parameters(Map<String, String> values) implements ConfigurationParameters {
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.ofNullable(values.get(key));
+        }
+
+        @Override
+        public Optional<Boolean> getBoolean(String key) {
+            return get(key).map(Boolean::parseBoolean);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return values.keySet();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.imagineDevit.giwt.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static io.github.imagineDevit.giwt.core.TestParameters.Parameter.P1;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestParametersTest {
+
+    @Test
+    void ofShouldCreateEagerParameters() {
+        var parameters = TestParameters.of(P1.of("A"), P1.of("B"));
+
+        assertFalse(parameters.isStreamed());
+        assertEquals(2, parameters.getParameters().size());
+    }
+
+    @Test
+    void ofStreamShouldPullRowsLazilyAndCloseTheStream() {
+        var closed = new AtomicBoolean(false);
+        var pulled = new ArrayList<String>();
+
+        var parameters = TestParameters.of(
+                Stream.of("A", "B", "C").peek(pulled::add).map(P1::of).onClose(() -> closed.set(true))
+        );
+
+        assertTrue(parameters.isStreamed());
+        assertTrue(pulled.isEmpty());
+
+        var names = new ArrayList<String>();
+        parameters.forEach(p -> names.add(p.formatName("{0}")));
+
+        assertEquals(List.of("A", "B", "C"), names);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void getParametersShouldMaterializeStreamedRows() {
+        var parameters = TestParameters.of(List.of(P1.of(1), P1.of(2)).iterator());
+
+        assertEquals(2, parameters.getParameters().size());
+        assertFalse(parameters.isStreamed());
+        assertEquals(2, parameters.getParameters().size());
+    }
+}
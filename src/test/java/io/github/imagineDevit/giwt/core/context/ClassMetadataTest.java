@@ -0,0 +1,99 @@
+package io.github.imagineDevit.giwt.core.context;
+
+import io.github.imagineDevit.giwt.core.TestParameters;
+import io.github.imagineDevit.giwt.core.annotations.*;
+import io.github.imagineDevit.giwt.core.callbacks.BeforeAllCallback;
+import io.github.imagineDevit.giwt.core.lib.TestCase;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.imagineDevit.giwt.core.TestParameters.Parameter.P1;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+class ClassMetadataTest {
+
+    @Test
+    void ofShouldBeComputedOnce() {
+        assertSame(ClassMetadata.of(TestClass.class), ClassMetadata.of(TestClass.class));
+    }
+
+    @Test
+    void ofShouldCollectTestMethods() throws NoSuchMethodException {
+        var metadata = ClassMetadata.of(TestClass.class);
+
+        assertTrue(metadata.hasTestMethods());
+        assertEquals(List.of("test1", "test2"), metadata.testMethods().stream().map(Method::getName).sorted().toList());
+        assertEquals(List.of("test3"), metadata.parameterizedTestMethods().stream().map(Method::getName).toList());
+        assertEquals(List.of("params"), metadata.parameterSources().stream().map(Method::getName).toList());
+        assertEquals(List.of(TestExtension.class), metadata.extensions());
+
+        assertEquals("First test", metadata.displayName(TestClass.class.getDeclaredMethod("test1", TestCase.class)));
+        assertEquals("test2", metadata.displayName(TestClass.class.getDeclaredMethod("test2", TestCase.class)));
+    }
+
+    @Test
+    void ofShouldSortCallbacksByOrder() {
+        var metadata = ClassMetadata.of(TestClass.class);
+
+        assertEquals(List.of("second", "first"), metadata.callbackMethods(BeforeEach.class).stream().map(Method::getName).toList());
+        assertTrue(metadata.callbackMethods(AfterAll.class).isEmpty());
+    }
+
+    @Test
+    void ofShouldResolveSkipReasons() throws NoSuchMethodException {
+        var metadata = ClassMetadata.of(TestClass.class);
+
+        assertEquals(Optional.of("not ready"), metadata.skipReason(TestClass.class.getDeclaredMethod("test2", TestCase.class)));
+        assertEquals(Optional.empty(), metadata.skipReason(TestClass.class.getDeclaredMethod("test1", TestCase.class)));
+
+        var skippedClassMetadata = ClassMetadata.of(SkippedTestClass.class);
+        assertEquals(Optional.of("whole class"), skippedClassMetadata.skipReason(SkippedTestClass.class.getDeclaredMethod("test", TestCase.class)));
+    }
+
+    static class TestExtension implements BeforeAllCallback {
+        @Override
+        public void beforeAll() {
+        }
+    }
+
+    @ExtendWith(TestExtension.class)
+    static class TestClass {
+
+        @io.github.imagineDevit.giwt.core.annotations.Test("First test")
+        void test1(TestCase<Object, Object> tc) {
+        }
+
+        @Skipped(reason = "not ready")
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test2(TestCase<Object, Object> tc) {
+        }
+
+        @ParameterizedTest(name = "test {0}", source = "params")
+        void test3(TestCase<Object, Object> tc, String param) {
+        }
+
+        @ParameterSource
+        TestParameters<P1<String>> params() {
+            return TestParameters.of(P1.of("A"));
+        }
+
+        @BeforeEach(order = 2)
+        void first() {
+        }
+
+        @BeforeEach(order = 1)
+        void second() {
+        }
+    }
+
+    @Skipped(reason = "whole class")
+    static class SkippedTestClass {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test(TestCase<Object, Object> tc) {
+        }
+    }
+}
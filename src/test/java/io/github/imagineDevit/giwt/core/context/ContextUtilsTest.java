@@ -3,10 +3,14 @@ package io.github.imagineDevit.giwt.core.context;
 import io.github.imagineDevit.giwt.core.TestConfiguration;
 import io.github.imagineDevit.giwt.core.TestParameters;
 import io.github.imagineDevit.giwt.core.annotations.*;
+import io.github.imagineDevit.giwt.core.callbacks.AfterEachCallback;
 import io.github.imagineDevit.giwt.core.callbacks.BeforeAllCallback;
+import io.github.imagineDevit.giwt.core.callbacks.BeforeEachCallback;
 import io.github.imagineDevit.giwt.core.callbacks.GiwtCallbacks;
 import org.junit.jupiter.api.Test;
 
+import java.util.*;
+
 import static io.github.imagineDevit.giwt.core.TestParameters.Parameter.P1;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,6 +51,42 @@ class ContextUtilsTest {
         assertNotNull(callbacks.afterAllCallback());
     }
 
+    @Test
+    void getCallbacksShouldRunExtensionsAroundTheTestClassCallbacksWithStableInstances() {
+        @ExtendWith({RecordingExtension.class})
+        class TestClass {
+
+            @BeforeEach(order = 2)
+            void second() {
+                EVENTS.add("second");
+            }
+
+            @BeforeEach(order = 1)
+            void first() {
+                EVENTS.add("first");
+            }
+
+            @AfterEach
+            void afterEach() {
+                EVENTS.add("afterEach");
+            }
+        }
+
+        EVENTS.clear();
+        GiwtCallbacks callbacks = ContextUtils.getCallbacks(new TestClass());
+
+        for (int i = 0; i < 2; i++) {
+            callbacks.beforeEachCallback().beforeEach();
+            callbacks.afterEachCallback().afterEach();
+        }
+
+        assertEquals(List.of(
+                "extension.beforeEach", "first", "second", "afterEach", "extension.afterEach",
+                "extension.beforeEach", "first", "second", "afterEach", "extension.afterEach"
+        ), EVENTS);
+        assertEquals(1, RecordingExtension.INSTANCES.size());
+    }
+
     @Test
     void getParameters() throws NoSuchMethodException {
         var parameters = ContextUtils.getParameters(ParamTestClass.class.getDeclaredMethod("test"), null);
@@ -72,6 +112,25 @@ class ContextUtilsTest {
         }
     }
 
+    static final List<String> EVENTS = new ArrayList<>();
+
+    static class RecordingExtension implements BeforeEachCallback, AfterEachCallback {
+
+        static final Set<RecordingExtension> INSTANCES = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        @Override
+        public void beforeEach() {
+            INSTANCES.add(this);
+            EVENTS.add("extension.beforeEach");
+        }
+
+        @Override
+        public void afterEach() {
+            INSTANCES.add(this);
+            EVENTS.add("extension.afterEach");
+        }
+    }
+
     public static class ParamTestClass {
 
         @ParameterizedTest(
@@ -0,0 +1,108 @@
+package io.github.imagineDevit.giwt.core.context;
+
+import io.github.imagineDevit.giwt.core.TestConfiguration;
+import io.github.imagineDevit.giwt.core.TestParameters;
+import io.github.imagineDevit.giwt.core.annotations.ConfigureWith;
+import io.github.imagineDevit.giwt.core.annotations.ParameterSource;
+import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
+import io.github.imagineDevit.giwt.core.lib.TestCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.github.imagineDevit.giwt.core.TestParameters.Parameter.P1;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+class DiscoveryCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void getShouldReturnTheCachedTestMethodsOfAnUnchangedClass() throws NoSuchMethodException {
+        var file = directory.resolve(DiscoveryCache.FILE);
+
+        var cache = DiscoveryCache.load(file);
+        cache.put(TestClass.class, List.of(
+                new ClassCtx.TestMethod(false, TestClass.class.getDeclaredMethod("test1", TestCase.class)),
+                new ClassCtx.TestMethod(true, TestClass.class.getDeclaredMethod("test2", TestCase.class, Integer.class))
+        ));
+        cache.save();
+
+        var testMethods = DiscoveryCache.load(file).get(TestClass.class).orElseThrow();
+
+        assertEquals(List.of("test1", "test2"), testMethods.stream().map(ClassCtx.TestMethod::method).map(Method::getName).toList());
+        assertEquals(List.of(false, true), testMethods.stream().map(ClassCtx.TestMethod::isParameterized).toList());
+    }
+
+    @Test
+    void getShouldIgnoreAChangedClass() throws Exception {
+        var file = directory.resolve(DiscoveryCache.FILE);
+        Files.writeString(file, "1\t%s\tdeadbeef\ttest1\n".formatted(TestClass.class.getName()));
+
+        assertTrue(DiscoveryCache.load(file).get(TestClass.class).isEmpty());
+    }
+
+    @Test
+    void getShouldIgnoreACacheOfAnotherVersion() throws Exception {
+        var file = directory.resolve(DiscoveryCache.FILE);
+        Files.writeString(file, "0\t%s\t%s\ttest1\n".formatted(TestClass.class.getName(), DiscoveryCache.hash(TestClass.class).orElseThrow()));
+
+        assertTrue(DiscoveryCache.load(file).get(TestClass.class).isEmpty());
+    }
+
+    @Test
+    void hashShouldBeStableAndClassSpecific() {
+        var hash = DiscoveryCache.hash(TestClass.class).orElseThrow();
+
+        assertEquals(hash, DiscoveryCache.hash(TestClass.class).orElseThrow());
+        assertNotEquals(hash, DiscoveryCache.hash(ConfiguredTestClass.class).orElseThrow());
+        assertNotEquals(DiscoveryCache.hash(ConfiguredTestClass.class), DiscoveryCache.hash(OtherConfiguredTestClass.class));
+    }
+
+    @Test
+    void disabledCacheShouldNeitherReturnNorStoreAnything() {
+        var cache = DiscoveryCache.disabled();
+
+        cache.put(TestClass.class, List.of());
+
+        assertFalse(cache.isEnabled());
+        assertTrue(cache.get(TestClass.class).isEmpty());
+    }
+
+    static class TestClass {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test1(TestCase<Object, Object> tc) {
+        }
+
+        @ParameterizedTest(name = "{0}", source = "params")
+        void test2(TestCase<Object, Object> tc, Integer i) {
+        }
+
+        @ParameterSource
+        TestParameters<P1<Integer>> params() {
+            return TestParameters.of(P1.of(1));
+        }
+    }
+
+    @ConfigureWith(Configuration.class)
+    static class ConfiguredTestClass {
+    }
+
+    @ConfigureWith(OtherConfiguration.class)
+    static class OtherConfiguredTestClass {
+    }
+
+    public static class Configuration extends TestConfiguration {
+    }
+
+    public static class OtherConfiguration extends TestConfiguration {
+        void other() {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.imagineDevit.giwt.core.context;
+
+import io.github.imagineDevit.giwt.core.TestParameters;
+import io.github.imagineDevit.giwt.core.annotations.ParameterSource;
+import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static io.github.imagineDevit.giwt.core.TestParameters.Parameter.P1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SuppressWarnings("unused")
+class GiwtContextTest {
+
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    static final AtomicInteger SOURCE_CALLS = new AtomicInteger();
+
+    static final AtomicInteger LAZY_INSTANCES = new AtomicInteger();
+
+    @Test
+    void getShouldCreateTheClassContextOnlyOnce() throws Exception {
+        var context = new GiwtContext(null);
+
+        var instances = runConcurrently(() -> context.getInstanceOf(CountedTestClass.class));
+
+        assertEquals(1, INSTANCES.get());
+        instances.forEach(instance -> assertSame(instances.get(0), instance));
+    }
+
+    @Test
+    void getParametersShouldInvokeTheSourceOnlyOnce() throws Exception {
+        var context = new GiwtContext(null);
+        var method = ParamTestClass.class.getDeclaredMethod("test");
+
+        var parameters = runConcurrently(() -> context.getParameters(ParamTestClass.class, method));
+
+        assertEquals(1, SOURCE_CALLS.get());
+        parameters.forEach(p -> assertSame(parameters.get(0), p));
+    }
+
+    @Test
+    void testInstanceShouldBeCreatedOnFirstAccessAndReleasedOnRemove() throws Exception {
+        var context = new GiwtContext(null);
+
+        context.add(LazyTestClass.class);
+        context.addTestMethod(LazyTestClass.class, List.of(LazyTestClass.class.getDeclaredMethod("test")), false);
+
+        assertEquals(0, LAZY_INSTANCES.get());
+
+        var instance = context.getInstanceOf(LazyTestClass.class);
+        context.getCallbacks(LazyTestClass.class);
+
+        assertEquals(1, LAZY_INSTANCES.get());
+
+        context.remove(LazyTestClass.class);
+
+        assertNotSame(instance, context.getInstanceOf(LazyTestClass.class));
+        assertEquals(2, LAZY_INSTANCES.get());
+    }
+
+    private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        int nbThreads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+        CyclicBarrier barrier = new CyclicBarrier(nbThreads);
+        try {
+            var futures = IntStream.range(0, nbThreads)
+                    .mapToObj(i -> pool.submit(() -> {
+                        barrier.await();
+                        return task.call();
+                    }))
+                    .toList();
+
+            return futures.stream().map(f -> {
+                try {
+                    return f.get(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static class CountedTestClass {
+        public CountedTestClass() {
+            INSTANCES.incrementAndGet();
+        }
+    }
+
+    public static class LazyTestClass {
+        public LazyTestClass() {
+            LAZY_INSTANCES.incrementAndGet();
+        }
+
+        void test() {
+        }
+    }
+
+    public static class ParamTestClass {
+
+        @ParameterizedTest(name = "test", source = "getParams")
+        void test() {
+        }
+
+        @ParameterSource
+        TestParameters<P1<String>> getParams() {
+            SOURCE_CALLS.incrementAndGet();
+            return TestParameters.of(P1.of("A"), P1.of("B"));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.imagineDevit.giwt.core.expectations;
+
+import io.github.imagineDevit.giwt.core.errors.ExpectationError;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.imagineDevit.giwt.core.expectations.ExpectedToPerform.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectedToPerformTest {
+
+    static volatile byte[] sink;
+
+    @Test
+    void testWithin() {
+        var runs = new AtomicInteger();
+
+        within(Duration.ofSeconds(5)).withWarmup(2).verify(runs::incrementAndGet);
+
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void testWithin2() {
+        var ex = assertThrows(
+                ExpectationError.class,
+                () -> within(Duration.ofMillis(1)).withWarmup(0).verify(() -> sleep(20))
+        );
+
+        assertTrue(ex.getMessage().startsWith("Expected to perform within <1.00 ms> but took <"), ex.getMessage());
+    }
+
+    @Test
+    void testAllocatingAtMost() {
+        allocatingAtMost(1024 * 1024).verify(() -> sink = new byte[16]);
+    }
+
+    @Test
+    void testAllocatingAtMost2() {
+        var ex = assertThrows(
+                ExpectationError.class,
+                () -> allocatingAtMost(1024).verify(() -> sink = new byte[1024 * 1024])
+        );
+
+        assertTrue(ex.getMessage().startsWith("Expected to allocate at most <1.00 KB> but allocated <1.00 MB"), ex.getMessage());
+    }
+
+    @Test
+    void testWithLatency() {
+        var runs = new AtomicInteger();
+
+        p99Within(Duration.ofSeconds(5)).withIterations(20).withWarmup(3).verify(runs::incrementAndGet);
+
+        assertEquals(23, runs.get());
+    }
+
+    @Test
+    void testWithLatency2() {
+        var runs = new AtomicInteger();
+
+        // one slow run out of ten: within the median, not within the 99th percentile
+        Runnable action = () -> {
+            if (runs.incrementAndGet() == 10) sleep(50);
+        };
+
+        p50Within(Duration.ofMillis(20)).withIterations(10).withWarmup(0).verify(action);
+
+        runs.set(0);
+        var ex = assertThrows(
+                ExpectationError.class,
+                () -> p99Within(Duration.ofMillis(20)).withIterations(10).withWarmup(0).verify(action)
+        );
+
+        assertTrue(ex.getMessage().startsWith("Expected p99 over 10 runs to be within <20.00 ms> but was <"), ex.getMessage());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> p50Within(Duration.ofMillis(1)).withIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> within(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> allocatingAtMost(1024).withWarmup(-1));
+        assertDoesNotThrow(() -> allocatingAtMost(0).withWarmup(0));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.imagineDevit.giwt.core.index;
+
+import io.github.imagineDevit.giwt.core.GiwtTestEngine;
+import io.github.imagineDevit.giwt.core.utils.SelectorUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestIndexProcessorTest {
+
+    private static final JavaFileObject TEST_ANNOTATION = source("io.github.imagineDevit.giwt.core.annotations.Test", """
+            package io.github.imagineDevit.giwt.core.annotations;
+            public @interface Test {}
+            """);
+
+    private static final JavaFileObject PARAMETERIZED_TEST_ANNOTATION = source("io.github.imagineDevit.giwt.core.annotations.ParameterizedTest", """
+            package io.github.imagineDevit.giwt.core.annotations;
+            public @interface ParameterizedTest {}
+            """);
+
+    @TempDir
+    Path output;
+
+    @Test
+    void processorShouldIndexTestMethods() {
+        compile(source("a.FirstTest", """
+                package a;
+                import io.github.imagineDevit.giwt.core.annotations.*;
+                public class FirstTest {
+                    @Test void test1() {}
+                    @ParameterizedTest void test2() {}
+                    void notATest() {}
+                    public static class Nested {
+                        @Test void test3() {}
+                    }
+                }
+                """));
+
+        var index = TestIndex.of(output.toUri()).orElseThrow();
+
+        assertEquals(Map.of("a.FirstTest", Set.of("test1", "test2"), "a.FirstTest$Nested", Set.of("test3")), index.testMethods());
+    }
+
+    @Test
+    void processorShouldIndexTheSubclassesOfAnAbstractTestClass() {
+        compile(source("a.BaseTest", """
+                package a;
+                public abstract class BaseTest {
+                    @io.github.imagineDevit.giwt.core.annotations.Test void test1() {}
+                }
+                """));
+        compile(source("b.ConcreteTest", """
+                package b;
+                public class ConcreteTest extends a.BaseTest {
+                    @io.github.imagineDevit.giwt.core.annotations.Test void test2() {}
+                }
+                """));
+        compile(source("c.OtherConcreteTest", """
+                package c;
+                public class OtherConcreteTest extends a.BaseTest {
+                }
+                """));
+
+        var index = TestIndex.of(output.toUri()).orElseThrow();
+
+        assertEquals(Map.of(
+                "a.BaseTest", Set.of("test1"),
+                "b.ConcreteTest", Set.of("test1", "test2"),
+                "c.OtherConcreteTest", Set.of("test1")
+        ), index.testMethods());
+    }
+
+    @Test
+    void indexShouldCoverTheClassesCompiledWithTheProcessor() {
+        compile(source("a.FirstTest", """
+                package a;
+                public class FirstTest {
+                    @io.github.imagineDevit.giwt.core.annotations.Test void test1() {}
+                    Runnable task = () -> {};
+                }
+                """));
+        compile(source("b.Helper", """
+                package b;
+                public class Helper {
+                    public static class Nested {}
+                }
+                """));
+
+        var index = TestIndex.of(output.toUri()).orElseThrow();
+
+        assertTrue(index.covers("a.FirstTest"));
+        assertTrue(index.covers("b.Helper"));
+        assertTrue(index.covers("b.Helper$Nested"));
+        assertFalse(index.covers("c.CompiledWithoutTheProcessor"));
+        assertEquals(Set.of("a.FirstTest"), index.testClassNames());
+    }
+
+    @Test
+    void processorShouldMergeThePreviousIndex() {
+        compile(source("a.FirstTest", """
+                package a;
+                public class FirstTest {
+                    @io.github.imagineDevit.giwt.core.annotations.Test void test1() {}
+                }
+                """));
+        compile(source("b.SecondTest", """
+                package b;
+                public class SecondTest {
+                    @io.github.imagineDevit.giwt.core.annotations.Test void test2() {}
+                }
+                """));
+
+        var index = TestIndex.of(output.toUri()).orElseThrow();
+
+        assertEquals(Set.of("a.FirstTest", "b.SecondTest"), index.testClassNames());
+    }
+
+    @Test
+    void appendTestInRootShouldOnlyLoadTheIndexedClasses() throws Exception {
+        var index = output.resolve(TestIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, """
+                io.github.imagineDevit.giwt.core.GiwtTestExecutorTest$FirstTestClass#test1
+                unknown.MissingTest#test
+                """);
+
+        var root = new EngineDescriptor(UniqueId.forEngine(GiwtTestEngine.ENGINE_ID), "engine");
+
+        DiscoverySelectors.selectClasspathRoots(Set.of(output))
+                .forEach(selector -> SelectorUtils.appendTestInRoot(selector, root, List.of()));
+
+        assertEquals(List.of("FirstTestClass"), root.getChildren().stream().map(TestDescriptor::getDisplayName).toList());
+    }
+
+    @Test
+    void ofShouldReturnEmptyWhenThereIsNoIndex() {
+        assertTrue(TestIndex.of(output.toUri()).isEmpty());
+    }
+
+    private void compile(JavaFileObject testClass) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var task = compiler.getTask(null, null, null,
+                List.of("-d", output.toString(), "-cp", output.toString()),
+                null,
+                List.of(TEST_ANNOTATION, PARAMETERIZED_TEST_ANNOTATION, testClass));
+        task.setProcessors(List.of(new TestIndexProcessor()));
+        assertTrue(task.call());
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.imagineDevit.giwt.core.jfr;
+
+import io.github.imagineDevit.giwt.core.GiwtTestEngine;
+import io.github.imagineDevit.giwt.core.TestParameters;
+import io.github.imagineDevit.giwt.core.annotations.BeforeEach;
+import io.github.imagineDevit.giwt.core.annotations.ParameterSource;
+import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
+import io.github.imagineDevit.giwt.core.lib.TestCase;
+import io.github.imagineDevit.giwt.core.lib.TestExecutor;
+import io.github.imagineDevit.giwt.core.utils.SelectorUtils;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.github.imagineDevit.giwt.core.TestParameters.Parameter.P1;
+import static io.github.imagineDevit.giwt.core.expectations.ExpectedToBe.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+class GiwtEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void eventsShouldIdentifyTheClassTheMethodAndTheRow() throws Exception {
+        var file = directory.resolve("giwt.jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable("io.github.imagineDevit.giwt.*");
+            recording.start();
+
+            var root = new EngineDescriptor(UniqueId.forEngine(GiwtTestEngine.ENGINE_ID), "engine");
+            SelectorUtils.appendTestInClass(RecordedTestClass.class, root);
+            new TestExecutor().execute(new ExecutionRequest(root, EngineExecutionListener.NOOP, new EmptyParameters()), root);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var events = RecordingFile.readAllEvents(file);
+        var className = RecordedTestClass.class.getName();
+
+        var discovery = single(events, "Discovery");
+        assertEquals(className, discovery.getString("className"));
+        assertEquals(1, discovery.getInt("testCount"));
+
+        var source = single(events, "ParameterSource");
+        assertEquals("test", source.getString("methodName"));
+        assertEquals("rows", source.getString("source"));
+
+        var executions = named(events, "TestExecution");
+        assertEquals(Set.of("row 1", "row 2"), Set.copyOf(executions.stream().map(e -> e.getString("rowName")).toList()));
+        assertTrue(executions.stream().allMatch(e -> "SUCCESS".equals(e.getString("status"))));
+
+        var callbacks = named(events, "Callback");
+        assertEquals(2, callbacks.size());
+        assertTrue(callbacks.stream().allMatch(e -> "beforeEach".equals(e.getString("callback")) && "test".equals(e.getString("methodName"))));
+
+        var expectations = named(events, "Expectation");
+        assertEquals(2, expectations.size());
+        assertTrue(expectations.stream().allMatch(e -> e.getBoolean("passed") && className.equals(e.getString("className"))));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        var named = named(events, name);
+        assertEquals(1, named.size());
+        return named.get(0);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals("io.github.imagineDevit.giwt." + name)).toList();
+    }
+
+    public static class RecordedTestClass {
+
+        @BeforeEach
+        void beforeEach() {
+        }
+
+        @ParameterizedTest(name = "row {0}", source = "rows")
+        void test(TestCase<Object, Object> tc, Integer row) {
+            equalTo(row).doVerify(row);
+        }
+
+        @ParameterSource
+        TestParameters<P1<Integer>> rows() {
+            return TestParameters.of(P1.of(1), P1.of(2));
+        }
+    }
+
+    private static final class EmptyParameters implements org.junit.platform.engine.ConfigurationParameters {
+
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Boolean> getBoolean(String key) {
+            return Optional.empty();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Set.of();
+        }
+    }
+}
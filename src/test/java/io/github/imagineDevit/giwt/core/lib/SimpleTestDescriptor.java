@@ -0,0 +1,19 @@
+package io.github.imagineDevit.giwt.core.lib;
+
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+
+/**
+ * A test descriptor named after the last segment of its unique id: a container if it has children, a test otherwise.
+ */
+public final class SimpleTestDescriptor extends AbstractTestDescriptor {
+
+    public SimpleTestDescriptor(UniqueId uniqueId) {
+        super(uniqueId, uniqueId.getLastSegment().getValue());
+    }
+
+    @Override
+    public Type getType() {
+        return getChildren().isEmpty() ? Type.TEST : Type.CONTAINER;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.imagineDevit.giwt.core.lib;
+
+import io.github.imagineDevit.giwt.core.GiwtTestExecutor;
+import io.github.imagineDevit.giwt.core.TestParameters;
+import io.github.imagineDevit.giwt.core.report.TestCaseReport;
+
+@SuppressWarnings("rawtypes")
+public class TestExecutor extends GiwtTestExecutor<TestCase> {
+
+    @Override
+    public void run(TestCase testCase) {
+        testCase.run();
+    }
+
+    @Override
+    public TestCase createTestCase(String name, TestCaseReport.TestReport report, TestParameters.Parameter parameter) {
+        return new TestCase<>(name, report, parameter);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.imagineDevit.giwt.core.metrics;
+
+import io.github.imagineDevit.giwt.core.lib.SimpleTestDescriptor;
+import io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GiwtMetricsTest {
+
+    private static final UniqueId ENGINE = UniqueId.forEngine("engine");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void histogramBucketsShouldCountDurationsUpToTheirBound() {
+        var histogram = new Histogram(new long[]{10, 100});
+        histogram.record(10);
+        histogram.record(50);
+        histogram.record(60);
+        histogram.record(1000);
+
+        var snapshot = histogram.snapshot();
+
+        assertArrayEquals(new long[]{1, 2, 1}, snapshot.counts());
+        assertEquals(3, snapshot.cumulativeCount(1));
+        assertEquals(4, snapshot.count());
+        assertEquals(1120, snapshot.sumNanos());
+        assertEquals(100, snapshot.percentile(50));
+        assertEquals(Long.MAX_VALUE, snapshot.percentile(99));
+    }
+
+    @Test
+    void metricsShouldBeHandedToTheListenersAndWrittenInThePrometheusFormat() throws IOException {
+        var file = dir.resolve(GiwtMetrics.FILE);
+        var listener = new RecordingListener();
+        var metrics = GiwtMetrics.create(List.of(listener), file);
+
+        var root = new EngineDescriptor(ENGINE, "engine");
+        var container = new SimpleTestDescriptor(ENGINE.append("class", "A"));
+        root.addChild(container);
+        var test1 = new SimpleTestDescriptor(container.getUniqueId().append("method", "a1"));
+        var test2 = new SimpleTestDescriptor(container.getUniqueId().append("method", "a2"));
+        container.addChild(test1);
+        container.addChild(test2);
+
+        metrics.discoveryFinished(root, TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.runStarted();
+        metrics.testFinished(test1, Status.SUCCESS, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.testFinished(test2, null, TimeUnit.SECONDS.toNanos(2));
+        metrics.runFinished();
+
+        assertEquals(List.of("discovery 1/2", "a1 SUCCESS", "a2 FAILURE", "run 2"), listener.events);
+
+        var lines = Files.readAllLines(file);
+        assertTrue(lines.contains("giwt_discovery_seconds 0.02"));
+        assertTrue(lines.contains("giwt_discovered_tests 2"));
+        assertTrue(lines.contains("giwt_tests_total{status=\"success\"} 1"));
+        assertTrue(lines.contains("giwt_tests_total{status=\"failure\"} 1"));
+        assertTrue(lines.contains("giwt_tests_total{status=\"skipped\"} 0"));
+        assertTrue(lines.contains("giwt_test_duration_seconds_bucket{le=\"0.001\"} 0"));
+        assertTrue(lines.contains("giwt_test_duration_seconds_bucket{le=\"0.005\"} 1"));
+        assertTrue(lines.contains("giwt_test_duration_seconds_bucket{le=\"2.5\"} 2"));
+        assertTrue(lines.contains("giwt_test_duration_seconds_bucket{le=\"+Inf\"} 2"));
+        assertTrue(lines.contains("giwt_test_duration_seconds_sum 2.003"));
+        assertTrue(lines.contains("giwt_test_duration_seconds_count 2"));
+    }
+
+    @Test
+    void metricsWithoutListenerNorFileShouldBeDisabled() {
+        var metrics = GiwtMetrics.create(List.of(), null);
+
+        assertFalse(metrics.isEnabled());
+
+        metrics.testFinished(new SimpleTestDescriptor(ENGINE.append("method", "a")), Status.SUCCESS, 10);
+
+        assertEquals(0, metrics.snapshot().executedCount());
+    }
+
+    private static final class RecordingListener implements MetricsListener {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void discoveryFinished(MetricsSnapshot snapshot) {
+            events.add("discovery %d/%d".formatted(snapshot.classCount(), snapshot.testCount()));
+        }
+
+        @Override
+        public void testFinished(TestDescriptor descriptor, Status status, long nanos) {
+            events.add(descriptor.getDisplayName() + " " + status);
+        }
+
+        @Override
+        public void runFinished(MetricsSnapshot snapshot) {
+            events.add("run " + snapshot.executedCount());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportProcessorTest {
+
+    private static final Path REPORT = Path.of(ReportProcessor.TARGET, ReportProcessor.GIWT, ReportProcessor.REPORT_FILE);
+
+    @Test
+    void processShouldRenderAllClassReports() throws Exception {
+        var report = new TestCaseReport();
+        report.addClassReport(classReport("a.FirstTest", TestCaseReport.TestReport.Status.SUCCESS));
+        report.addClassReport(classReport("b.SecondTest", TestCaseReport.TestReport.Status.FAILURE));
+
+        new ReportProcessor().process(report);
+
+        var html = Files.readString(REPORT);
+        assertTrue(html.contains("a.FirstTest"));
+        assertTrue(html.contains("b.SecondTest"));
+        assertTrue(html.contains("TEST SUMMARY"));
+        assertTrue(html.contains("50%"));
+    }
+
+    @Test
+    void streamShouldAppendClassReportsThenTheSummary() throws Exception {
+        try (var writer = new ReportProcessor().stream()) {
+            writer.write(classReport("a.FirstTest", TestCaseReport.TestReport.Status.SUCCESS));
+
+            var partial = Files.readString(REPORT);
+            assertTrue(partial.contains("a.FirstTest"));
+            assertFalse(partial.contains("TEST SUMMARY"));
+
+            writer.write(classReport("b.SecondTest", TestCaseReport.TestReport.Status.SKIPPED));
+        }
+
+        var html = Files.readString(REPORT);
+        assertTrue(html.indexOf("a.FirstTest") < html.indexOf("b.SecondTest"));
+        assertTrue(html.contains("collapse2"));
+        assertTrue(html.contains("TEST SUMMARY"));
+        assertEquals(1, html.split("</html>", -1).length - 1);
+    }
+
+    @Test
+    void htmlSinkShouldRenderTheCollectedClassesWhenClosed() throws Exception {
+        Files.deleteIfExists(REPORT);
+
+        try (var sink = new HtmlReportSink()) {
+            sink.write(classReport("a.FirstTest", TestCaseReport.TestReport.Status.SUCCESS));
+
+            assertFalse(Files.exists(REPORT));
+        }
+
+        assertTrue(Files.readString(REPORT).contains("a.FirstTest"));
+    }
+
+    @Test
+    void benchmarkAndResourceFiguresShouldBeRendered() throws Exception {
+        var classReport = classReport("a.BenchmarkTest", TestCaseReport.TestReport.Status.SUCCESS);
+        var testReport = classReport.getTestReports().get(0);
+        testReport.setBenchmarkResult(BenchmarkResult.of(new long[]{2_000, 4_000}, 1));
+        testReport.setResourceUsage(new ResourceUsage(2048, 0, 0, 0, 0, 0));
+
+        var report = new TestCaseReport();
+        report.addClassReport(classReport);
+        new ReportProcessor().process(report);
+
+        var html = Files.readString(REPORT);
+        assertTrue(html.contains("<th class=\"text-secondary\">p99</th>"));
+        assertTrue(html.contains("<td>2 µs</td>"));
+        assertTrue(html.contains("allocated 2.00 KB"));
+    }
+
+    private static TestCaseReport.ClassReport classReport(String name, TestCaseReport.TestReport.Status status) {
+        var testReport = new TestCaseReport.TestReport();
+        testReport.setName("test of " + name);
+        testReport.setStatus(status);
+        testReport.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.given("a state"));
+
+        var classReport = new TestCaseReport.ClassReport(name);
+        classReport.addTestReport(testReport);
+        return classReport;
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import io.github.imagineDevit.giwt.core.expectations.ExpectedToBe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void jsonLinesSinkShouldWriteOneLinePerTest() throws Exception {
+        var file = directory.resolve("report.jsonl");
+
+        try (var sink = new JsonLinesReportSink(file.toFile())) {
+            sink.write(classReport());
+        }
+
+        var lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertEquals("""
+                {"class":"a.MyTest","name":"should \\"work\\"","status":"passed","failureReason":null,\
+                "steps":[{"prefix":"GIVEN","label":"a state"},{"prefix":"↳  AND","label":"another one"}],"stacktrace":[]}""", lines.get(0));
+        assertTrue(lines.get(1).contains("\"status\":\"failed\""));
+        assertTrue(lines.get(1).contains("\"failureReason\":\"expected <1>\""));
+        assertTrue(lines.get(1).contains("\"stacktrace\":[\"java.lang.AssertionError\",\"at a.MyTest.fail(MyTest.java:1)\"]"));
+    }
+
+    @Test
+    void junitXmlSinkShouldWriteOneSuitePerClass() throws Exception {
+        var file = directory.resolve("TEST-giwt.xml");
+
+        try (var sink = new JUnitXmlReportSink(file.toFile())) {
+            sink.write(classReport());
+        }
+
+        var xml = Files.readString(file);
+        assertTrue(xml.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?><testsuites>"));
+        assertTrue(xml.contains("<testsuite name=\"a.MyTest\" tests=\"2\" failures=\"1\" errors=\"0\" skipped=\"0\" time=\"1.500\">"));
+        assertTrue(xml.contains("<testcase classname=\"a.MyTest\" name=\"should &quot;work&quot;\" time=\"1.250\">"));
+        assertTrue(xml.contains("<failure message=\"expected &lt;1&gt;\">java.lang.AssertionError\nat a.MyTest.fail(MyTest.java:1)</failure>"));
+        assertTrue(xml.endsWith("</testsuites>"));
+    }
+
+    @Test
+    void theFailureOfAnExpectationShouldBeWrittenAsPlainText() throws Exception {
+        var error = assertThrows(Throwable.class, () -> ExpectedToBe.equalTo(1).doVerify(2));
+
+        var failure = new TestCaseReport.TestReport();
+        failure.setName("should be one");
+        failure.setStatus(TestCaseReport.TestReport.Status.FAILURE);
+        failure.setFailureReason(error.getCause().getMessage());
+        failure.addTrace("Caused by: %s : %s".formatted(error.getCause().getClass().getName(), error.getCause().getMessage()));
+
+        var classReport = new TestCaseReport.ClassReport("a.MyTest");
+        classReport.addTestReport(failure);
+
+        var xml = directory.resolve("TEST-giwt.xml");
+        try (var sink = new JUnitXmlReportSink(xml.toFile())) {
+            sink.write(classReport);
+        }
+        var message = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xml.toFile())
+                .getElementsByTagName("failure").item(0).getAttributes().getNamedItem("message").getNodeValue();
+        assertFalse(message.contains("\u001B"));
+        assertTrue(message.contains("Expected : 1"));
+
+        var jsonl = directory.resolve("report.jsonl");
+        try (var sink = new JsonLinesReportSink(jsonl.toFile())) {
+            sink.write(classReport);
+        }
+        assertFalse(Files.readString(jsonl).contains("\\u001b"));
+    }
+
+    @Test
+    void resourceUsagesShouldBeWrittenToEveryFormatAndAggregatedPerClass() throws Exception {
+        var classReport = classReport();
+        classReport.getTestReports().get(0).setResourceUsage(new ResourceUsage(3_145_728, 2_000_000, 1, 500_000, 0, 12));
+        classReport.getTestReports().get(1).setResourceUsage(new ResourceUsage(1_048_576, 1_000_000, 0, 0, 0, 3));
+
+        var jsonl = directory.resolve("report.jsonl");
+        try (var sink = new JsonLinesReportSink(jsonl.toFile())) {
+            sink.write(classReport);
+        }
+        assertTrue(Files.readAllLines(jsonl).get(0).endsWith("""
+                "resources":{"allocatedBytes":3145728,"compilationNanos":0,"cpuNanos":2000000,"gcCount":1,"gcNanos":500000,"loadedClasses":12}}"""));
+
+        var xml = directory.resolve("TEST-giwt.xml");
+        try (var sink = new JUnitXmlReportSink(xml.toFile())) {
+            sink.write(classReport);
+        }
+        var content = Files.readString(xml);
+        assertTrue(content.contains("time=\"1.500\"><properties><property name=\"giwt.allocatedBytes\" value=\"4194304\"/>"));
+        assertTrue(content.contains("time=\"1.250\"><properties><property name=\"giwt.allocatedBytes\" value=\"3145728\"/>"));
+
+        @SuppressWarnings("unchecked")
+        var figures = (List<Map<String, String>>) classReport.toMap().get("resources");
+        assertEquals(Map.of("name", "allocated", "value", "4.00 MB"), figures.get(0));
+        assertEquals(Map.of("name", "gc", "value", "1 (500 µs)"), figures.get(2));
+    }
+
+    @Test
+    void reportFormatShouldBeResolvedByKey() {
+        assertEquals(ReportFormat.JUNIT_XML, ReportFormat.of(" junit-xml "));
+        assertEquals(ReportFormat.JSON_LINES, ReportFormat.of("JSONL"));
+        assertThrows(IllegalArgumentException.class, () -> ReportFormat.of("pdf"));
+    }
+
+    private static TestCaseReport.ClassReport classReport() {
+        var success = new TestCaseReport.TestReport();
+        success.setName("should \"work\"");
+        success.setStatus(TestCaseReport.TestReport.Status.SUCCESS);
+        success.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.given("a state"));
+        success.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.and("another one"));
+        success.setDurationNanos(1_250_000_000L);
+
+        var failure = new TestCaseReport.TestReport();
+        failure.setName("should fail");
+        failure.setStatus(TestCaseReport.TestReport.Status.FAILURE);
+        failure.setFailureReason("expected <1>");
+        failure.addTrace("java.lang.AssertionError");
+        failure.addTrace("at a.MyTest.fail(MyTest.java:1)");
+        failure.setDurationNanos(250_000_000L);
+
+        var classReport = new TestCaseReport.ClassReport("a.MyTest");
+        classReport.addTestReport(success);
+        classReport.addTestReport(failure);
+        return classReport;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReportTextTest {
+
+    @Test
+    void plainShouldDecodeEntitiesAndRemoveAnsiSequences() {
+        assertEquals("a < b", ReportText.plain("a&nbsp;&#60;&nbsp;\u001B[31mb\u001B[0m"));
+        assertNull(ReportText.plain(null));
+    }
+
+    @Test
+    void plainShouldLeaveInvalidNumericEntitiesUnchanged() {
+        assertEquals("&#99999999999; &#1114112; \uD83D\uDE00", ReportText.plain("&#99999999999; &#1114112; &#128512;"));
+    }
+}
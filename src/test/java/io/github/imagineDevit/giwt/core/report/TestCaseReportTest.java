@@ -0,0 +1,159 @@
+package io.github.imagineDevit.giwt.core.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport.Phase.*;
+import static io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport.Status.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCaseReportTest {
+
+    @Test
+    void countersShouldFollowAddedTestsAndStatusChanges() {
+        var report = new TestCaseReport();
+        var classReport = report.getOrCreateClassReport("a.MyTest");
+
+        var first = testReport(SUCCESS);
+        classReport.addTestReport(first);
+        classReport.addTestReport(testReport(FAILURE));
+
+        var pending = new TestCaseReport.TestReport();
+        classReport.addTestReport(pending);
+        pending.setStatus(SKIPPED);
+
+        first.setStatus(FAILURE);
+
+        assertEquals(3, classReport.getTotalCount());
+        assertEquals(0, classReport.getSuccessCount());
+        assertEquals(2, classReport.getFailureCount());
+        assertEquals(1, classReport.getSkippedCount());
+
+        var summary = report.toMap();
+        assertEquals(3L, summary.get("totalCount"));
+        assertEquals(2L, summary.get("failureCount"));
+        assertEquals(1L, summary.get("skippedCount"));
+        assertEquals(0L, summary.get("successCount"));
+    }
+
+    @Test
+    void countersShouldIncludeClassReportsAddedWithTheirTests() {
+        var report = new TestCaseReport();
+
+        var classReport = new TestCaseReport.ClassReport("a.MyTest");
+        classReport.addTestReport(testReport(SUCCESS));
+        classReport.addTestReport(testReport(SUCCESS));
+
+        report.addClassReport(classReport);
+        report.getOrCreateClassReport("b.OtherTest").addTestReport(testReport(FAILURE));
+
+        assertEquals(3L, report.toMap().get("totalCount"));
+        assertEquals(2L, report.toMap().get("successCount"));
+
+        report.removeClassReport(classReport);
+
+        assertEquals(1L, report.toMap().get("totalCount"));
+        assertEquals(0L, report.toMap().get("successCount"));
+        assertTrue(report.getClassReport("a.MyTest").isEmpty());
+    }
+
+    @Test
+    void getClassReportShouldReturnTheReportOfTheGivenClass() {
+        var report = new TestCaseReport();
+        var classReport = report.getOrCreateClassReport("a.MyTest");
+
+        assertSame(classReport, report.getOrCreateClassReport("a.MyTest"));
+        assertSame(classReport, report.getClassReport("a.MyTest").orElseThrow());
+        assertEquals(1, report.getClassReports().size());
+    }
+
+    @Test
+    void durationsShouldBeSetOnTheDescriptionItemsOfTheirPhase() {
+        var testReport = new TestCaseReport.TestReport();
+        testReport.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.given("a state"));
+        testReport.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.and("another one"));
+        testReport.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.when("acting"));
+        testReport.addDescriptionItem(TestCaseReport.TestReport.DescriptionItem.then("it works"));
+
+        testReport.addDuration(BEFORE, 1_000);
+        testReport.addDuration(GIVEN, 2_000);
+        testReport.addDuration(WHEN, 3_000_000);
+        testReport.addDuration(GIVEN, 4_000);
+
+        var items = testReport.getDescriptionItems();
+        assertEquals(2_000L, items.get(0).durationNanos());
+        assertEquals(4_000L, items.get(1).durationNanos());
+        assertEquals(3_000_000L, items.get(2).durationNanos());
+        assertNull(items.get(3).durationNanos());
+
+        assertEquals(6_000L, testReport.getDurationNanos(GIVEN));
+        assertEquals(1_000L, testReport.getDurationNanos(BEFORE));
+        assertEquals(0L, testReport.getDurationNanos(THEN));
+    }
+
+    @Test
+    void summaryShouldListTheSlowestTestsSlowestFirst() {
+        var report = new TestCaseReport();
+        var classReport = report.getOrCreateClassReport("a.MyTest");
+
+        for (int i = 1; i <= 12; i++) {
+            var testReport = testReport(SUCCESS);
+            testReport.setName("test " + i);
+            testReport.setDurationNanos(i * 1_000_000L);
+            classReport.addTestReport(testReport);
+        }
+
+        @SuppressWarnings("unchecked")
+        var slowestTests = (List<Map<String, Object>>) report.toMap().get("slowestTests");
+
+        assertEquals(SlowestTests.DEFAULT_SIZE, slowestTests.size());
+        assertEquals("test 12", slowestTests.get(0).get("name"));
+        assertEquals("12.00 ms", slowestTests.get(0).get("duration"));
+        assertEquals("test 3", slowestTests.get(SlowestTests.DEFAULT_SIZE - 1).get("name"));
+    }
+
+    private static TestCaseReport.TestReport testReport(TestCaseReport.TestReport.Status status) {
+        var testReport = new TestCaseReport.TestReport();
+        testReport.setName("test");
+        testReport.setStatus(status);
+        return testReport;
+    }
+
+    @Test
+    void benchmarkResultsShouldBeComputedPerInvocation() {
+        var result = BenchmarkResult.of(new long[]{400, 200, 300, 100}, 2);
+
+        assertEquals(4, result.iterations());
+        assertEquals(125.0, result.meanNanos());
+        assertEquals(50, result.minNanos());
+        assertEquals(100, result.p50Nanos());
+        assertEquals(200, result.p99Nanos());
+        assertEquals(200, result.maxNanos());
+        // t(0.9995, 3) (12.924) x sd (64.55) / sqrt(4)
+        assertEquals(417.1, result.errorNanos(), 0.1);
+
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkResult.of(new long[0], 1));
+    }
+
+    @Test
+    void benchmarkErrorShouldUseTheStudentQuantileOfTheNumberOfIterations() {
+        var result = BenchmarkResult.of(new long[]{100, 200, 300, 400, 500, 600, 700, 800, 900, 1000}, 1);
+
+        // t(0.9995, 9) (4.781) x sd (302.77) / sqrt(10)
+        assertEquals(457.7, result.errorNanos(), 0.1);
+        assertEquals(1000, result.p99Nanos());
+        assertEquals(0.0, BenchmarkResult.of(new long[]{100}, 1).errorNanos());
+    }
+
+    @Test
+    void studentQuantilesShouldMatchTheTables() {
+        assertEquals(636.619, StudentT.quantile(0.9995, 1), 1e-3);
+        assertEquals(12.924, StudentT.quantile(0.9995, 3), 1e-3);
+        assertEquals(4.781, StudentT.quantile(0.9995, 9), 1e-3);
+        assertEquals(3.646, StudentT.quantile(0.9995, 30), 1e-3);
+        assertEquals(2.228, StudentT.quantile(0.975, 10), 1e-3);
+        assertEquals(3.291, StudentT.quantile(0.9995, 100_000), 1e-3);
+    }
+}
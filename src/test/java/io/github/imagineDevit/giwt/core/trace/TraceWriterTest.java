@@ -0,0 +1,98 @@
+package io.github.imagineDevit.giwt.core.trace;
+
+import io.github.imagineDevit.giwt.core.report.TestCaseReport.TestReport;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceWriterTest {
+
+    @Test
+    void spansShouldBeWrittenOnTheTrackOfTheirThread() throws Exception {
+        var out = new StringWriter();
+
+        try (var trace = TraceWriter.of(out)) {
+            long start = System.nanoTime();
+            trace.span("class \"A\"", "class", start, 2_500_000);
+            trace.span("test", "test", start + 1_000, 1_500);
+
+            var worker = new Thread(() -> trace.span("test", "test", start, 1_000), "giwt-worker-1");
+            worker.start();
+            worker.join();
+        }
+
+        var json = out.toString();
+
+        assertTrue(json.startsWith("{\"traceEvents\":[\n"));
+        assertTrue(json.endsWith("\n]}\n"));
+        assertEquals(2, count(json, "\"thread_name\""));
+        assertTrue(json.contains("\"args\":{\"name\":\"giwt-worker-1\"}"));
+        assertTrue(json.contains("{\"name\":\"class \\\"A\\\"\",\"cat\":\"class\",\"ph\":\"X\","));
+        assertTrue(json.contains(",\"dur\":2500.000,"));
+        assertTrue(json.contains(",\"dur\":1.500,"));
+        assertEquals(3, count(json, "\"ph\":\"X\""));
+    }
+
+    @Test
+    void timedStepsShouldBeHandedToThePhaseListener() {
+        var report = new TestReport();
+        List<TestReport.Phase> phases = new ArrayList<>();
+        report.setPhaseListener((phase, start, nanos) -> phases.add(phase));
+
+        report.timed(TestReport.Phase.GIVEN, () -> {
+        });
+        assertEquals(1, report.timed(TestReport.Phase.WHEN, () -> 1));
+
+        assertEquals(List.of(TestReport.Phase.GIVEN, TestReport.Phase.WHEN), phases);
+    }
+
+    @Test
+    void aWriterShouldBeDisabledOnItsFirstFailure() {
+        var writes = new ArrayList<String>();
+        var out = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                writes.add(new String(buffer, offset, length));
+                if (writes.size() > 1) throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        var trace = TraceWriter.of(out);
+        assertTrue(trace.isEnabled());
+
+        assertDoesNotThrow(() -> trace.span("test", "test", System.nanoTime(), 1_000));
+        assertFalse(trace.isEnabled());
+
+        trace.span("test", "test", System.nanoTime(), 1_000);
+        assertDoesNotThrow(trace::close);
+        assertEquals(2, writes.size());
+    }
+
+    @Test
+    void aDisabledWriterShouldWriteNothing() throws IOException {
+        var trace = TraceWriter.disabled();
+
+        assertFalse(trace.isEnabled());
+        trace.span("test", "test", 0, 1);
+        trace.close();
+    }
+
+    private static long count(String json, String value) {
+        return Pattern.compile(Pattern.quote(value)).matcher(json).results().count();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClasspathRootsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findClassNamesShouldListTheClassesOfADirectory() throws Exception {
+        Files.createDirectories(directory.resolve("a/b"));
+        Files.createFile(directory.resolve("a/b/Second.class"));
+        Files.createFile(directory.resolve("a/First.class"));
+        Files.createFile(directory.resolve("a/First$Nested.class"));
+        Files.createFile(directory.resolve("a/package-info.class"));
+        Files.createFile(directory.resolve("a/notes.txt"));
+
+        assertEquals(Optional.of(List.of("a.First", "a.First$Nested", "a.b.Second")),
+                ClasspathRoots.findClassNames(directory.toUri(), name -> true));
+        assertEquals(Optional.of(List.of("a.b.Second")),
+                ClasspathRoots.findClassNames(directory.toUri(), name -> name.startsWith("a.b.")));
+    }
+
+    @Test
+    void findClassNamesShouldListTheClassesOfAJar() throws Exception {
+        var jar = directory.resolve("tests.jar");
+        try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String entry : List.of("a/First.class", "module-info.class", "META-INF/versions/11/a/First.class")) {
+                out.putNextEntry(new JarEntry(entry));
+                out.closeEntry();
+            }
+        }
+
+        assertEquals(Optional.of(List.of("a.First")), ClasspathRoots.findClassNames(jar.toUri(), name -> true));
+    }
+
+    @Test
+    void findClassNamesShouldReturnEmptyWhenTheRootCannotBeListed() {
+        assertEquals(Optional.empty(), ClasspathRoots.findClassNames(URI.create("http://example.com/tests.jar"), name -> true));
+        assertEquals(Optional.empty(), ClasspathRoots.findClassNames(directory.resolve("missing").toUri(), name -> true));
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+class MethodInvokerTest {
+
+    static final List<String> CALLS = new ArrayList<>();
+
+    @Test
+    void invokeInstanceMethod() throws NoSuchMethodException {
+        var target = new Target();
+        var invoker = MethodInvoker.of(Target.class.getDeclaredMethod("concat", String.class, int.class));
+
+        assertEquals("a1", invoker.invoke(target, "a", 1));
+    }
+
+    @Test
+    void invokeVoidMethod() throws NoSuchMethodException {
+        var target = new Target();
+        var invoker = MethodInvoker.of(Target.class.getDeclaredMethod("record", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class));
+
+        assertNull(invoker.invoke(target, 1, 2, 3, 4, 5, 6));
+        assertEquals(6, target.values.size());
+    }
+
+    @Test
+    void invokeStaticMethod() throws NoSuchMethodException {
+        CALLS.clear();
+        var invoker = MethodInvoker.of(Target.class.getDeclaredMethod("staticMethod"));
+
+        invoker.invoke(null);
+
+        assertEquals(List.of("static"), CALLS);
+    }
+
+    @Test
+    void invokeShouldRethrowTheOriginalException() throws NoSuchMethodException {
+        var invoker = MethodInvoker.of(Target.class.getDeclaredMethod("fail"));
+
+        var ex = assertThrows(IllegalStateException.class, () -> invoker.invoke(new Target()));
+
+        assertEquals("failure", ex.getMessage());
+    }
+
+    static class Target {
+
+        final List<Object> values = new ArrayList<>();
+
+        private static void staticMethod() {
+            CALLS.add("static");
+        }
+
+        String concat(String s, int i) {
+            return s + i;
+        }
+
+        void record(Object a, Object b, Object c, Object d, Object e, Object f) {
+            values.addAll(List.of(a, b, c, d, e, f));
+        }
+
+        void fail() {
+            throw new IllegalStateException("failure");
+        }
+    }
+}
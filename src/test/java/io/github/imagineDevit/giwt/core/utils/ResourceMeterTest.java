@@ -0,0 +1,39 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceMeterTest {
+
+    static volatile byte[] sink;
+
+    @Test
+    void theUsageSinceASampleShouldIncludeTheAllocationsOfTheCurrentThread() {
+        var meter = ResourceMeter.open(new WorkerPoolTest.Parameters(Map.of(EnvVars.RESOURCES, "true")));
+        assertTrue(meter.isEnabled());
+
+        var start = meter.sample();
+        sink = new byte[4 * 1024 * 1024];
+        var usage = meter.since(start);
+
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            assertTrue(usage.allocatedBytes() >= 4 * 1024 * 1024, "allocated " + usage.allocatedBytes());
+        }
+        assertTrue(usage.cpuNanos() >= 0);
+        assertTrue(usage.gcCount() >= 0);
+        assertTrue(usage.loadedClasses() >= 0);
+    }
+
+    @Test
+    void aDisabledMeterShouldMeasureNothing() {
+        var meter = ResourceMeter.open(new WorkerPoolTest.Parameters(Map.of()));
+
+        assertFalse(meter.isEnabled());
+        assertNull(meter.sample());
+        assertNull(meter.since(null));
+    }
+}
@@ -0,0 +1,314 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import io.github.imagineDevit.giwt.core.GiwtTestEngine;
+import io.github.imagineDevit.giwt.core.TestParameters;
+import io.github.imagineDevit.giwt.core.annotations.ParameterSource;
+import io.github.imagineDevit.giwt.core.annotations.ParameterizedTest;
+import io.github.imagineDevit.giwt.core.context.DiscoveryCache;
+import io.github.imagineDevit.giwt.core.descriptors.GiwtParameterizedMethodTestDescriptor;
+import io.github.imagineDevit.giwt.core.errors.TestMethodException;
+import io.github.imagineDevit.giwt.core.index.TestIndex;
+import io.github.imagineDevit.giwt.core.lib.TestCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.imagineDevit.giwt.core.TestParameters.Parameter.P1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("unused")
+class SelectorUtilsTest {
+
+    private static final DiscoveryOptions PARALLEL = new DiscoveryOptions(DiscoveryCache.disabled(), 4);
+
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    @TempDir
+    Path classpathRoot;
+
+    @Test
+    void parallelDiscoveryShouldAppendClassesInTheSameOrderAsSequentialDiscovery() throws Exception {
+        index(TestClassA.class, TestClassB.class, TestClassC.class, TestClassD.class);
+
+        var sequential = discover(DiscoveryOptions.DEFAULT);
+        var parallel = discover(PARALLEL);
+
+        assertEquals(List.of("TestClassA", "TestClassB", "TestClassC", "TestClassD"), names(sequential));
+        assertEquals(names(sequential), names(parallel));
+    }
+
+    @Test
+    void parallelDiscoveryShouldRethrowTheErrorOfTheFirstInvalidClass() throws Exception {
+        index(TestClassA.class, TestClassBInvalid.class, TestClassC.class);
+
+        var root = root();
+
+        assertThrows(TestMethodException.class, () -> discover(root, PARALLEL));
+        assertEquals(List.of("TestClassA"), names(root));
+    }
+
+    @Test
+    void parallelDiscoveryShouldScanANonIndexedRootOnTheWorkers() throws Exception {
+        var testClasses = Path.of(TestClassA.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        var filter = ClassNameFilter.includeClassNamePatterns(".*SelectorUtilsTest\\$TestClass[A-D]").toPredicate();
+
+        var sequential = root();
+        var parallel = root();
+        DiscoverySelectors.selectClasspathRoots(Set.of(testClasses)).forEach(selector -> {
+            SelectorUtils.appendTestInRoot(selector, sequential, DiscoveryOptions.DEFAULT.withClassNameFilter(filter));
+            SelectorUtils.appendTestInRoot(selector, parallel, PARALLEL.withClassNameFilter(filter));
+        });
+
+        assertEquals(List.of("TestClassA", "TestClassB", "TestClassC", "TestClassD"), names(parallel));
+        assertEquals(Set.copyOf(names(sequential)), Set.copyOf(names(parallel)));
+    }
+
+    @Test
+    void classesExcludedByTheClassNameFilterShouldNotBeDiscovered() throws Exception {
+        index(TestClassA.class, TestClassBInvalid.class, TestClassC.class);
+
+        var options = DiscoveryOptions.DEFAULT.withClassNameFilter(
+                ClassNameFilter.excludeClassNamePatterns(".*Invalid").toPredicate()
+        );
+
+        assertEquals(List.of("TestClassA", "TestClassC"), names(discover(options)));
+    }
+
+    @Test
+    void aStaleIndexShouldBeIgnored() throws Exception {
+        index(TestClassA.class);
+        classFile(TestClassA.class.getName());
+        // compiled without the index processor
+        classFile("io.github.imagineDevit.giwt.core.GiwtTestExecutorTest$FirstTestClass");
+
+        assertEquals(Set.of("TestClassA", "FirstTestClass"), Set.copyOf(names(discover(DiscoveryOptions.DEFAULT))));
+        assertEquals(Set.of("TestClassA", "FirstTestClass"), Set.copyOf(names(discover(PARALLEL))));
+    }
+
+    @Test
+    void theIndexShouldBeIgnoredWhenDisabled() throws Exception {
+        index(TestClassA.class, TestClassB.class);
+        classFile(TestClassC.class.getName());
+
+        assertEquals(List.of("TestClassA", "TestClassB"), names(discover(DiscoveryOptions.DEFAULT)));
+        assertEquals(List.of("TestClassC"), names(discover(DiscoveryOptions.DEFAULT.withTestIndex(false))));
+    }
+
+    @Test
+    void packageSelectorShouldAppendTheFilteredClassesOfThePackage() {
+        var root = root();
+        var options = DiscoveryOptions.DEFAULT.withClassNameFilter(
+                ClassNameFilter.includeClassNamePatterns(".*SelectorUtilsTest\\$TestClass[AC]").toPredicate()
+        );
+
+        SelectorUtils.appendTestInPackage(DiscoverySelectors.selectPackage(getClass().getPackageName()), root, options);
+
+        assertEquals(Set.of("TestClassA", "TestClassC"), Set.copyOf(names(root)));
+    }
+
+    @Test
+    void uniqueIdsShouldOnlySelectTheIdentifiedTestsUnderASingleClassDescriptor() throws Exception {
+        var root = root();
+        var classId = root.getUniqueId().append("class", MultiTestClass.class.getName());
+
+        SelectorUtils.appendTestInUniqueIds(List.of(
+                SelectorUtils.uniqueIdOf(MultiTestClass.class.getDeclaredMethod("first", TestCase.class), root.getUniqueId()),
+                classId.append("method", "rows").append("method", "row 2"),
+                root.getUniqueId().append("class", "a.b.UnknownTestClass"),
+                UniqueId.forEngine("another-engine").append("class", MultiTestClass.class.getName())
+        ), root, DiscoveryOptions.DEFAULT);
+
+        assertEquals(List.of(MultiTestClass.class.getSimpleName()), names(root));
+
+        var classDescriptor = root.getChildren().iterator().next();
+        assertEquals(classId, classDescriptor.getUniqueId());
+        assertEquals(Set.of(Utils.getTestName(MultiTestClass.class.getDeclaredMethod("first", TestCase.class)), "rows"),
+                classDescriptor.getChildren().stream().map(TestDescriptor::getDisplayName).collect(Collectors.toSet()));
+
+        var rows = root.findByUniqueId(classId.append("method", "rows")).orElseThrow();
+        assertEquals(List.of("row 2"), names(rows));
+    }
+
+    @Test
+    void anInheritedMethodShouldBeSelectedInTheConcreteTestClass() throws Exception {
+        var root = root();
+        var method = AbstractTestClass.class.getDeclaredMethod("inherited", TestCase.class);
+
+        SelectorUtils.appendTestInUniqueIds(List.of(SelectorUtils.uniqueIdOf(ConcreteTestClass.class, method, root.getUniqueId())),
+                root, DiscoveryOptions.DEFAULT);
+
+        assertEquals(List.of(ConcreteTestClass.class.getSimpleName()), names(root));
+        assertEquals(List.of(Utils.getTestName(method)), names(root.getChildren().iterator().next()));
+    }
+
+    @Test
+    void aUniqueIdShouldSelectASingleStreamedRow() {
+        var root = root();
+        var methodId = root.getUniqueId().append("class", StreamedTestClass.class.getName()).append("method", "rows");
+
+        SelectorUtils.appendTestInUniqueIds(List.of(methodId.append("method", "row 1")), root, DiscoveryOptions.DEFAULT);
+
+        var descriptor = (GiwtParameterizedMethodTestDescriptor) root.findByUniqueId(methodId).orElseThrow();
+        var rows = new ArrayList<String>();
+        descriptor.forEachDynamicRow(row -> rows.add(row.getDisplayName()));
+
+        assertEquals(List.of("row 1"), rows);
+    }
+
+    @Test
+    void anInstanceParameterSourceShouldOnlyBeCalledAtExecution() {
+        var root = root();
+
+        SelectorUtils.appendTestInClass(InstanceSourceTestClass.class, root);
+
+        var descriptor = (GiwtParameterizedMethodTestDescriptor) root.getChildren().iterator().next().getChildren().iterator().next();
+        assertEquals(0, INSTANCES.get());
+        assertTrue(descriptor.hasDynamicRows());
+
+        var rows = new ArrayList<String>();
+        descriptor.forEachDynamicRow(row -> rows.add(row.getDisplayName()));
+
+        assertEquals(List.of("row 1", "row 2"), rows);
+        assertEquals(1, INSTANCES.get());
+        GiwtTestEngine.CONTEXT.remove(InstanceSourceTestClass.class);
+    }
+
+    private void index(Class<?>... testClasses) throws Exception {
+        var index = classpathRoot.resolve(TestIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, Arrays.stream(testClasses).map(c -> c.getName() + "#test\n").collect(Collectors.joining()));
+    }
+
+    /**
+     * Creates an (empty) class file, the class itself being loaded from the test classpath
+     */
+    private void classFile(String className) throws Exception {
+        var classFile = classpathRoot.resolve(className.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.createFile(classFile);
+    }
+
+    private EngineDescriptor discover(DiscoveryOptions options) {
+        var root = root();
+        discover(root, options);
+        return root;
+    }
+
+    private void discover(EngineDescriptor root, DiscoveryOptions options) {
+        DiscoverySelectors.selectClasspathRoots(Set.of(classpathRoot))
+                .forEach(selector -> SelectorUtils.appendTestInRoot(selector, root, options));
+    }
+
+    private static EngineDescriptor root() {
+        return new EngineDescriptor(UniqueId.forEngine(GiwtTestEngine.ENGINE_ID), "engine");
+    }
+
+    private static List<String> names(TestDescriptor root) {
+        return root.getChildren().stream().map(TestDescriptor::getDisplayName).toList();
+    }
+
+    public static class TestClassA {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test(TestCase<Object, Object> tc) {
+        }
+    }
+
+    public static class TestClassB {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test(TestCase<Object, Object> tc) {
+        }
+    }
+
+    public static class TestClassC {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test(TestCase<Object, Object> tc) {
+        }
+    }
+
+    public static class TestClassD {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test(TestCase<Object, Object> tc) {
+        }
+    }
+
+    public abstract static class AbstractTestClass {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void inherited(TestCase<Object, Object> tc) {
+        }
+    }
+
+    public static class ConcreteTestClass extends AbstractTestClass {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void declared(TestCase<Object, Object> tc) {
+        }
+    }
+
+    public static class MultiTestClass {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void first(TestCase<Object, Object> tc) {
+        }
+
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void second(TestCase<Object, Object> tc) {
+        }
+
+        @ParameterizedTest(name = "row {0}", source = "params")
+        void rows(TestCase<Object, Object> tc, Integer row) {
+        }
+
+        @ParameterSource
+        static TestParameters<P1<Integer>> params() {
+            return TestParameters.of(P1.of(1), P1.of(2), P1.of(3));
+        }
+    }
+
+    public static class InstanceSourceTestClass {
+
+        public InstanceSourceTestClass() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @ParameterizedTest(name = "row {0}", source = "params")
+        void rows(TestCase<Object, Object> tc, Integer row) {
+        }
+
+        @ParameterSource
+        TestParameters<P1<Integer>> params() {
+            return TestParameters.of(P1.of(1), P1.of(2));
+        }
+    }
+
+    public static class StreamedTestClass {
+        @ParameterizedTest(name = "row {0}", source = "params")
+        void rows(TestCase<Object, Object> tc, Integer row) {
+        }
+
+        @ParameterSource
+        TestParameters<P1<Integer>> params() {
+            return TestParameters.of(Stream.of(1, 2, 3).map(P1::of));
+        }
+    }
+
+    public static class TestClassBInvalid {
+        @io.github.imagineDevit.giwt.core.annotations.Test
+        void test(String notATestCase) {
+        }
+    }
+}
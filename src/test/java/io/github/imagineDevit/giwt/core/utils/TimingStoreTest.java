@@ -0,0 +1,74 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import io.github.imagineDevit.giwt.core.lib.SimpleTestDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimingStoreTest {
+
+    private static final UniqueId ENGINE = UniqueId.forEngine("engine");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void durationsShouldBeSavedAndSmoothedAcrossRuns() {
+        var file = dir.resolve(TimingStore.FILE);
+
+        var store = TimingStore.load(file);
+        store.record(ENGINE.append("class", "A"), 100);
+        store.save();
+
+        var reloaded = TimingStore.load(file);
+        reloaded.record(ENGINE.append("class", "A"), 300);
+
+        assertEquals(OptionalLong.of(200), reloaded.estimate(container("A")));
+    }
+
+    @Test
+    void theEstimateOfAContainerShouldBeTheSumOfItsChildrenWhenAllAreKnown() {
+        var store = TimingStore.load(dir.resolve(TimingStore.FILE));
+        store.record(ENGINE.append("class", "A"), 1000);
+        store.record(ENGINE.append("class", "A").append("method", "a1"), 10);
+        store.record(ENGINE.append("class", "A").append("method", "a2"), 20);
+
+        assertEquals(OptionalLong.of(30), store.estimate(container("A", "a1", "a2")));
+        assertEquals(OptionalLong.of(1000), store.estimate(container("A", "a1", "unknown")));
+        assertEquals(OptionalLong.empty(), store.estimate(container("B")));
+    }
+
+    @Test
+    void longestFirstShouldScheduleUnknownDescriptorsFirstThenByDecreasingDuration() {
+        var store = TimingStore.load(dir.resolve(TimingStore.FILE));
+        store.record(ENGINE.append("class", "short"), 10);
+        store.record(ENGINE.append("class", "long"), 1000);
+        store.record(ENGINE.append("class", "medium"), 100);
+
+        var sorted = store.longestFirst(List.of(container("short"), container("new"), container("long"), container("medium")));
+
+        assertEquals(List.of("new", "long", "medium", "short"), sorted.stream().map(TestDescriptor::getDisplayName).toList());
+    }
+
+    @Test
+    void aDisabledStoreShouldKeepTheDiscoveryOrder() {
+        var descriptors = List.of(container("B"), container("A"));
+
+        assertEquals(descriptors, TimingStore.disabled().longestFirst(descriptors));
+    }
+
+    private static TestDescriptor container(String name, String... children) {
+        var container = new SimpleTestDescriptor(ENGINE.append("class", name));
+        for (String child : children) {
+            container.addChild(new SimpleTestDescriptor(container.getUniqueId().append("method", child)));
+        }
+        return container;
+    }
+}
@@ -4,16 +4,22 @@ import io.github.imagineDevit.giwt.core.GiwtTestEngine;
 import io.github.imagineDevit.giwt.core.errors.DuplicateTestNameException;
 import io.github.imagineDevit.giwt.core.lib.TestCase;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 @SuppressWarnings("unused")
 class UtilsTest {
 
+    @TempDir
+    Path directory;
+
     @Test
     void getTestName() throws NoSuchMethodException {
         class TestClass {
@@ -88,4 +94,29 @@ class UtilsTest {
 
         assertThrows(DuplicateTestNameException.class, () -> Utils.checkTestNamesDuplication(TestClass2.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void writeAtomicallyShouldReplaceTheFile() throws Exception {
+        var file = directory.resolve("file");
+        Files.writeString(file, "previous");
+
+        assertTrue(Utils.writeAtomically(file, writer -> writer.write("current")));
+
+        assertEquals("current", Files.readString(file));
+        assertEquals(List.of(file), Files.list(directory).toList());
+    }
+
+    @Test
+    void aFailedWriteShouldKeepThePreviousFileAndDeleteTheTemporaryOne() throws Exception {
+        var file = directory.resolve("file");
+        Files.writeString(file, "previous");
+
+        assertFalse(Utils.writeAtomically(file, writer -> {
+            writer.write("partial");
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("previous", Files.readString(file));
+        assertEquals(List.of(file), Files.list(directory).toList());
+    }
+}
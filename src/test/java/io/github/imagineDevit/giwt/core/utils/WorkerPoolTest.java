@@ -0,0 +1,137 @@
+package io.github.imagineDevit.giwt.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkerPoolTest {
+
+    @Test
+    void submitShouldRunTasksOnPlatformWorkersByDefault() {
+        var threadName = new AtomicReference<String>();
+
+        try (var pool = WorkerPool.create(new Parameters(Map.of()), 2)) {
+            WorkerPool.join(pool.submit(() -> threadName.set(Thread.currentThread().getName())));
+        }
+
+        assertTrue(threadName.get().startsWith("giwt-worker-"));
+    }
+
+    @Test
+    void submitShouldRunTasksOnVirtualThreadsWhenAvailable() {
+        var threadName = new AtomicReference<String>();
+
+        try (var pool = WorkerPool.create(new Parameters(Map.of(EnvVars.VIRTUAL_THREADS, "true")), 2)) {
+            WorkerPool.join(pool.submit(() -> threadName.set(Thread.currentThread().getName())));
+        }
+
+        var expectedPrefix = WorkerPool.virtualThreadsAvailable() ? "giwt-virtual-" : "giwt-worker-";
+        assertTrue(threadName.get().startsWith(expectedPrefix));
+    }
+
+    @Test
+    void submitShouldNotExceedParallelism() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        try (var pool = WorkerPool.create(new Parameters(Map.of(EnvVars.VIRTUAL_THREADS, "true")), 2)) {
+            IntStream.range(0, 8)
+                    .mapToObj(i -> pool.submit(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(20);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                    }))
+                    .toList()
+                    .forEach(WorkerPool::join);
+        }
+
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    void testBodiesShouldRunOnVirtualThreadsWhenAvailableAndOnTheCallingThreadOtherwise() {
+        var thread = new AtomicReference<Thread>();
+
+        try (var pool = WorkerPool.forTestBodies(new Parameters(Map.of(EnvVars.VIRTUAL_THREADS, "true")))) {
+            pool.run(() -> thread.set(Thread.currentThread()));
+        }
+
+        if (WorkerPool.virtualThreadsAvailable()) {
+            assertTrue(thread.get().getName().startsWith("giwt-virtual-"));
+        } else {
+            assertSame(Thread.currentThread(), thread.get());
+        }
+    }
+
+    @Test
+    void testBodiesShouldRunOnTheCallingThreadByDefault() {
+        var thread = new AtomicReference<Thread>();
+
+        try (var pool = WorkerPool.forTestBodies(new Parameters(Map.of()))) {
+            pool.run(() -> thread.set(Thread.currentThread()));
+
+            var error = assertThrows(IllegalStateException.class, () -> pool.run(() -> {
+                throw new IllegalStateException("boom");
+            }));
+            assertEquals("boom", error.getMessage());
+        }
+
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    void defaultParallelismShouldBeTheMaxConcurrencyOfVirtualThreadsWhenTheyAreUsed() {
+        var parameters = new Parameters(Map.of(EnvVars.VIRTUAL_THREADS, "true", EnvVars.VIRTUAL_THREADS_MAX_CONCURRENCY, "1000"));
+
+        var expected = WorkerPool.virtualThreadsAvailable() ? 1000 : Runtime.getRuntime().availableProcessors();
+        assertEquals(expected, WorkerPool.defaultParallelism(parameters));
+        assertEquals(Runtime.getRuntime().availableProcessors(), WorkerPool.defaultParallelism(new Parameters(Map.of())));
+    }
+
+    @Test
+    void joinShouldRethrowTheTaskFailure() {
+        try (var pool = WorkerPool.create(new Parameters(Map.of()), 1)) {
+            var future = pool.submit(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            var error = assertThrows(IllegalStateException.class, () -> WorkerPool.join(future));
+            assertEquals("boom", error.getMessage());
+        }
+    }
+
+    record Parameters(Map<String, String> values) implements ConfigurationParameters {
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.ofNullable(values.get(key));
+        }
+
+        @Override
+        public Optional<Boolean> getBoolean(String key) {
+            return get(key).map(Boolean::parseBoolean);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return values.keySet();
+        }
+    }
+}